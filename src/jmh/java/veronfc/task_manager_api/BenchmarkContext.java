@@ -0,0 +1,40 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+final class BenchmarkContext {
+    private BenchmarkContext() {
+    }
+
+    static ConfigurableApplicationContext start(String... properties) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+
+        return new SpringApplicationBuilder(TaskManagerApiApplication.class)
+            .web(WebApplicationType.NONE)
+            .logStartupInfo(false)
+            .properties(
+                "spring.datasource.url=jdbc:h2:mem:benchmark-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1",
+                "logging.level.root=WARN")
+            .properties(properties)
+            .run();
+    }
+
+    static void seed(TaskService service, int rows) {
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(30);
+
+        for (int from = 0; from < rows; from += TaskValidator.MAX_BATCH_SIZE) {
+            List<CreateTaskDto> batch = IntStream.range(from, Math.min(rows, from + TaskValidator.MAX_BATCH_SIZE))
+                .mapToObj(i -> new CreateTaskDto("Benchmark task " + i, "Seeded by the benchmark harness", dueDate))
+                .toList();
+
+            service.createTasks(batch);
+        }
+    }
+}
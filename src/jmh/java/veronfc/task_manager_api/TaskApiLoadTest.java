@@ -0,0 +1,121 @@
+package veronfc.task_manager_api;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+public class TaskApiLoadTest {
+    private static final int[] CONCURRENCY_LEVELS = { 200, 1000, 2500, 5000, 10000 };
+    private static final int SEEDED_TASKS = 1000;
+
+    private final URI baseUri;
+    private final Duration duration;
+    private final HttpClient client;
+    private final ObjectMapper mapper = new ObjectMapper().findAndRegisterModules();
+
+    TaskApiLoadTest(URI baseUri, Duration duration) {
+        this.baseUri = baseUri;
+        this.duration = duration;
+        this.client = HttpClient.newBuilder()
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        URI baseUri = URI.create(args.length > 0 ? args[0] : "http://localhost:8080/");
+        Duration duration = Duration.ofSeconds(args.length > 1 ? Long.parseLong(args[1]) : 30);
+
+        new TaskApiLoadTest(baseUri, duration).run();
+    }
+
+    void run() throws Exception {
+        List<String> ids = seed();
+
+        System.out.printf("%12s %12s %12s %12s%n", "clients", "req/s", "mean ms", "errors");
+
+        for (int clients : CONCURRENCY_LEVELS) {
+            LongAdder completed = new LongAdder();
+            LongAdder errors = new LongAdder();
+            LongAdder latencyNanos = new LongAdder();
+            long deadline = System.nanoTime() + duration.toNanos();
+
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                for (int i = 0; i < clients; i++) {
+                    executor.submit(() -> {
+                        while (System.nanoTime() < deadline) {
+                            String id = ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+                            long start = System.nanoTime();
+
+                            try {
+                                HttpResponse<Void> response = client.send(
+                                    HttpRequest.newBuilder(baseUri.resolve(id)).GET().build(),
+                                    HttpResponse.BodyHandlers.discarding());
+
+                                if (response.statusCode() != 200) {
+                                    errors.increment();
+                                }
+                            } catch (Exception ex) {
+                                errors.increment();
+                            }
+
+                            latencyNanos.add(System.nanoTime() - start);
+                            completed.increment();
+                        }
+                    });
+                }
+            }
+
+            long requests = completed.sum();
+
+            System.out.printf("%12d %12.0f %12.2f %12d%n",
+                clients,
+                requests / (double) duration.toSeconds(),
+                requests == 0 ? 0 : latencyNanos.sum() / (double) requests / 1_000_000,
+                errors.sum());
+        }
+    }
+
+    private List<String> seed() throws Exception {
+        String run = UUID.randomUUID().toString();
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(30);
+
+        List<Map<String, Object>> tasks = IntStream.range(0, SEEDED_TASKS)
+            .mapToObj(i -> Map.<String, Object>of("title", "Load test " + run + " " + i, "dueDate", dueDate.toString()))
+            .toList();
+
+        HttpResponse<String> response = client.send(
+            HttpRequest.newBuilder(baseUri.resolve("batch"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(mapper.writeValueAsString(tasks)))
+                .build(),
+            HttpResponse.BodyHandlers.ofString());
+
+        List<Map<String, Object>> results = mapper.readValue(response.body(), new TypeReference<>() {
+        });
+        List<String> ids = new ArrayList<>();
+
+        for (Map<String, Object> result : results) {
+            if (result.get("id") != null) {
+                ids.add(result.get("id").toString());
+            }
+        }
+
+        return ids;
+    }
+}
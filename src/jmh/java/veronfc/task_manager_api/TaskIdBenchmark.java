@@ -0,0 +1,116 @@
+package veronfc.task_manager_api;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskIdBenchmark {
+    private static final int BATCH_SIZE = 1_000;
+
+    @Param({ "4", "7" })
+    public int version;
+
+    @Param({ "1000000", "10000000" })
+    public int rows;
+
+    private Path directory;
+    private Connection connection;
+    private long startedAt;
+
+    @Setup(Level.Iteration)
+    public void setUp() throws IOException, SQLException {
+        directory = Files.createTempDirectory("task-id-benchmark");
+        connection = DriverManager.getConnection("jdbc:h2:file:" + directory.resolve("tasks"), "sa", "");
+        connection.setAutoCommit(false);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                create table task (
+                    id uuid primary key,
+                    title varchar(255) not null,
+                    created_at timestamp(6) not null)""");
+        }
+
+        startedAt = System.nanoTime();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDown() throws IOException, SQLException {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+
+        connection.close();
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            long bytes = files.filter(Files::isRegularFile).mapToLong(TaskIdBenchmark::sizeOf).sum();
+
+            System.out.printf("%nv%d: %,d rows in %.1fs (%,.0f rows/s), %,d bytes on disk%n",
+                version, rows, seconds, rows / seconds, bytes);
+        }
+
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int insertTasks() throws SQLException {
+        Timestamp createdAt = new Timestamp(System.currentTimeMillis());
+
+        try (PreparedStatement insert = connection.prepareStatement(
+                "insert into task (id, title, created_at) values (?, ?, ?)")) {
+            for (int i = 0; i < rows; i++) {
+                insert.setObject(1, TaskIds.next(version));
+                insert.setString(2, "Benchmark task " + i);
+                insert.setTimestamp(3, createdAt);
+                insert.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+
+            insert.executeBatch();
+            connection.commit();
+        }
+
+        return rows;
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (IOException ex) {
+            return 0;
+        }
+    }
+}
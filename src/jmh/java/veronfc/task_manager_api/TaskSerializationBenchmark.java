@@ -0,0 +1,53 @@
+package veronfc.task_manager_api;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskSerializationBenchmark {
+    @Param({ "1000", "100000", "1000000" })
+    public int rows;
+
+    private ObjectMapper mapper;
+    private List<Task> tasks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        try (ConfigurableApplicationContext context = BenchmarkContext.start()) {
+            TaskService service = context.getBean(TaskService.class);
+
+            BenchmarkContext.seed(service, rows);
+
+            mapper = context.getBean(ObjectMapper.class);
+            tasks = service.retrieveAllTasks();
+        }
+    }
+
+    @Benchmark
+    public void serializeTasks() throws IOException {
+        mapper.writeValue(OutputStream.nullOutputStream(), tasks);
+    }
+}
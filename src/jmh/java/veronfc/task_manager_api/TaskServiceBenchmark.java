@@ -0,0 +1,109 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+    private static final int SEEDED_TASKS = 10_000;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LongAdder operations = new LongAdder();
+
+    private ConfigurableApplicationContext context;
+    private TaskService service;
+    private MeterRegistry registry;
+    private long acquisitionsAtStart;
+    private List<String> ids;
+    private LocalDateTime dueDate;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContext.start();
+        service = context.getBean(TaskService.class);
+        registry = context.getBean(MeterRegistry.class);
+
+        BenchmarkContext.seed(service, SEEDED_TASKS);
+
+        ids = service.retrieveAllTasks().stream().map(task -> task.getId().toString()).toList();
+        dueDate = LocalDateTime.now().plusDays(30);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Setup(Level.Iteration)
+    public void startCountingAcquisitions() {
+        operations.reset();
+        acquisitionsAtStart = acquisitions();
+    }
+
+    @TearDown(Level.Iteration)
+    public void reportAcquisitions() {
+        System.out.printf("%n%.3f pool acquisitions per operation%n",
+            (acquisitions() - acquisitionsAtStart) / (double) Math.max(1, operations.sum()));
+    }
+
+    @Benchmark
+    public Object createTask() {
+        operations.increment();
+
+        return service.createTask(new CreateTaskDto("Created task " + sequence.incrementAndGet(), dueDate));
+    }
+
+    @Benchmark
+    public Object retrieveTask() {
+        operations.increment();
+
+        return service.retrieveTask(randomId());
+    }
+
+    @Benchmark
+    public Object updateTask() {
+        operations.increment();
+
+        UpdateTaskDto task = new UpdateTaskDto(UUID.fromString(randomId()));
+        task.setDescription("Updated " + sequence.incrementAndGet());
+
+        return service.updateTask(task);
+    }
+
+    private long acquisitions() {
+        Timer acquire = registry.find("hikaricp.connections.acquire").timer();
+
+        return acquire == null ? 0 : acquire.count();
+    }
+
+    private String randomId() {
+        return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+    }
+}
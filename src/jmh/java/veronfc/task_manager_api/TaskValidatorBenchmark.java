@@ -0,0 +1,45 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskValidatorBenchmark {
+    private TaskValidator validator;
+    private String id;
+    private LocalDateTime dueDate;
+
+    @Setup
+    public void setUp() {
+        validator = new TaskValidator(null, new TaskTitleCache(1));
+        id = UUID.randomUUID().toString();
+        dueDate = LocalDateTime.now().plusDays(1);
+    }
+
+    @Benchmark
+    public Object checkIdValidity() {
+        return validator.checkIdValidity(id);
+    }
+
+    @Benchmark
+    public void checkDueDateValidity() {
+        validator.checkDueDateValidity(dueDate);
+    }
+}
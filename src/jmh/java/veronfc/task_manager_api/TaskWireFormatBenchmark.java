@@ -0,0 +1,86 @@
+package veronfc.task_manager_api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+public class TaskWireFormatBenchmark {
+    @Param({ "json", "smile", "cbor" })
+    public String format;
+
+    @Param({ "1000", "100000" })
+    public int rows;
+
+    private ObjectMapper mapper;
+    private JavaType taskList;
+    private List<Task> tasks;
+    private byte[] encoded;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        try (ConfigurableApplicationContext context = BenchmarkContext.start()) {
+            TaskService service = context.getBean(TaskService.class);
+
+            BenchmarkContext.seed(service, rows);
+
+            mapper = switch (format) {
+                case "smile" -> context.getBean(MappingJackson2SmileHttpMessageConverter.class).getObjectMapper();
+                case "cbor" -> context.getBean(MappingJackson2CborHttpMessageConverter.class).getObjectMapper();
+                default -> context.getBean(ObjectMapper.class);
+            };
+            tasks = service.retrieveAllTasks();
+        }
+
+        taskList = mapper.getTypeFactory().constructCollectionType(List.class, Task.class);
+        encoded = mapper.writeValueAsBytes(tasks);
+
+        System.out.printf("%n%s: %d tasks in %d bytes, %d bytes gzipped%n", format, rows, encoded.length, gzipped(encoded));
+    }
+
+    @Benchmark
+    public byte[] encodeTasks() throws IOException {
+        return mapper.writeValueAsBytes(tasks);
+    }
+
+    @Benchmark
+    public List<Task> decodeTasks() throws IOException {
+        return mapper.readValue(encoded, taskList);
+    }
+
+    private static int gzipped(byte[] bytes) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        try (GZIPOutputStream gzip = new GZIPOutputStream(output)) {
+            gzip.write(bytes);
+        }
+
+        return output.size();
+    }
+}
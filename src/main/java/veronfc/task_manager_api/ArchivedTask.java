@@ -0,0 +1,46 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "task_archive", indexes = {
+    @Index(name = "idx_task_archive_created_at_id", columnList = "createdAt, id")
+})
+@NoArgsConstructor
+@Getter
+@Setter
+class ArchivedTask {
+    @Id
+    private UUID id;
+
+    private String title;
+
+    @Column(length = 2000)
+    private String description;
+
+    private TaskStatus status;
+
+    private LocalDateTime dueDate;
+
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    private Long version;
+
+    private LocalDateTime archivedAt;
+
+    Task toTask() {
+        return new Task(id, title, description, status, dueDate, createdAt, updatedAt, version);
+    }
+}
@@ -0,0 +1,41 @@
+package veronfc.task_manager_api;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+class FileTaskOutboxSink implements TaskOutboxSink {
+    private final Path file;
+    private final ObjectMapper mapper;
+
+    FileTaskOutboxSink(Path file, ObjectMapper mapper) {
+        this.file = file;
+        this.mapper = mapper;
+    }
+
+    @Override
+    public synchronized void accept(List<TaskOutboxEvent> events) throws IOException {
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (TaskOutboxEvent event : events) {
+                Map<String, Object> line = new LinkedHashMap<>();
+                line.put("id", event.getId());
+                line.put("type", event.getType());
+                line.put("taskId", event.getTaskId());
+                line.put("createdAt", event.getCreatedAt());
+                line.put("task", event.getPayload() == null ? null : mapper.readTree(event.getPayload()));
+
+                writer.write(mapper.writeValueAsString(line));
+                writer.newLine();
+            }
+        }
+    }
+}
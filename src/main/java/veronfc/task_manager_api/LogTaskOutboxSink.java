@@ -0,0 +1,16 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+class LogTaskOutboxSink implements TaskOutboxSink {
+    private static final Logger log = LoggerFactory.getLogger(LogTaskOutboxSink.class);
+
+    @Override
+    public void accept(List<TaskOutboxEvent> events) {
+        events.forEach(event -> log.info("{} {} {} {}",
+            event.getId(), event.getType(), event.getTaskId(), event.getPayload()));
+    }
+}
@@ -4,12 +4,14 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Future;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -22,6 +24,14 @@ import lombok.Setter;
 import lombok.ToString;
 
 @Entity
+@DynamicUpdate
+@Table(indexes = {
+    @Index(name = "idx_task_created_at_id", columnList = "createdAt, id"),
+    @Index(name = "idx_task_updated_at_id", columnList = "updatedAt, id"),
+    @Index(name = "idx_task_due_date_id", columnList = "dueDate, id"),
+    @Index(name = "idx_task_status_due_date", columnList = "status, dueDate"),
+    @Index(name = "uk_task_title", columnList = "title", unique = true)
+})
 @NoArgsConstructor
 @AllArgsConstructor
 @Getter
@@ -29,7 +39,7 @@ import lombok.ToString;
 @EqualsAndHashCode
 @ToString
 class Task {
-    @Id @GeneratedValue(strategy = GenerationType.UUID)
+    @Id @TaskId
     private UUID id;
 
     @NotEmpty(message = "Task title must not be empty")
@@ -51,4 +61,7 @@ class Task {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
 }
\ No newline at end of file
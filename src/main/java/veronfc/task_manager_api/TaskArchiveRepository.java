@@ -0,0 +1,10 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+interface TaskArchiveRepository extends JpaRepository<ArchivedTask, UUID> {
+    List<ArchivedTask> findAllByOrderByCreatedAtAscIdAsc();
+}
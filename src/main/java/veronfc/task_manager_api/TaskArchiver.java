@@ -0,0 +1,126 @@
+package veronfc.task_manager_api;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+
+@Component
+@ConditionalOnProperty(name = "tasks.archive.enabled", havingValue = "true", matchIfMissing = true)
+class TaskArchiver {
+    private static final Logger log = LoggerFactory.getLogger(TaskArchiver.class);
+
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final TaskShards shards;
+    private final TaskTitleRegistry titleRegistry;
+    private final TaskStats stats;
+    private final TaskCache taskCache;
+    private final TaskTitleCache titleCache;
+    private final TaskOutbox outbox;
+    private final TaskEventPublisher events;
+    private final Duration completeAfter;
+    private final int chunkSize;
+
+    TaskArchiver(EntityManager entityManager, TransactionTemplate transactionTemplate, TaskShards shards,
+            TaskTitleRegistry titleRegistry, TaskStats stats, TaskCache taskCache, TaskTitleCache titleCache, TaskOutbox outbox, TaskEventPublisher events,
+            @Value("${tasks.archive.complete-after:30d}") Duration completeAfter,
+            @Value("${tasks.archive.chunk-size:1000}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.shards = shards;
+        this.titleRegistry = titleRegistry;
+        this.stats = stats;
+        this.taskCache = taskCache;
+        this.titleCache = titleCache;
+        this.outbox = outbox;
+        this.events = events;
+        this.completeAfter = completeAfter;
+        this.chunkSize = chunkSize;
+    }
+
+    @Scheduled(cron = "${tasks.archive.cron:0 0 3 * * *}")
+    void archive() {
+        LocalDateTime completedBefore = LocalDateTime.now().minus(completeAfter);
+        AtomicInteger archived = new AtomicInteger();
+
+        shards.forEachShard(shard -> {
+            int moved;
+
+            do {
+                moved = transactionTemplate.execute(status -> archiveChunk(completedBefore));
+                archived.addAndGet(moved);
+            } while (moved == chunkSize);
+        });
+
+        if (archived.get() > 0) {
+            log.info("Moved {} tasks to the archive", archived);
+        }
+    }
+
+    private int archiveChunk(LocalDateTime completedBefore) {
+        List<TaskSummary> tasks = entityManager.createQuery("""
+                select new veronfc.task_manager_api.TaskSummary(t.id, t.title, t.status, t.dueDate, t.createdAt, t.updatedAt)
+                from Task t
+                where t.status = :archived or (t.status = :complete and t.updatedAt < :completedBefore)
+                order by t.updatedAt, t.id""", TaskSummary.class)
+            .setParameter("archived", TaskStatus.ARCHIVED)
+            .setParameter("complete", TaskStatus.COMPLETE)
+            .setParameter("completedBefore", completedBefore)
+            .setMaxResults(chunkSize)
+            .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+            .getResultList();
+
+        if (tasks.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> ids = tasks.stream().map(TaskSummary::id).toList();
+        List<TaskStatusCount> archived = tasks.stream()
+            .collect(Collectors.groupingBy(TaskSummary::status, () -> new EnumMap<>(TaskStatus.class), Collectors.counting()))
+            .entrySet()
+            .stream()
+            .map(count -> new TaskStatusCount(count.getKey(), count.getValue()))
+            .toList();
+
+        entityManager.createQuery("""
+                insert into ArchivedTask (id, title, description, status, dueDate, createdAt, updatedAt, version, archivedAt)
+                select t.id, t.title, t.description, t.status, t.dueDate, t.createdAt, t.updatedAt, t.version, local datetime
+                from Task t
+                where t.id in :ids""")
+            .setParameter("ids", ids)
+            .executeUpdate();
+        entityManager.createQuery("delete from Task t where t.id in :ids")
+            .setParameter("ids", ids)
+            .executeUpdate();
+        entityManager.clear();
+        stats.archived(archived);
+
+        if (shards.isEnabled()) {
+            titleRegistry.releaseAllAfterCommit(ids);
+        }
+
+        tasks.forEach(task -> {
+            taskCache.evict(task.id());
+            titleCache.evict(task.title());
+            outbox.record(TaskEventType.ARCHIVED, task.id(), null);
+            events.publish(TaskEventType.ARCHIVED, task.id(), null);
+        });
+
+        return tasks.size();
+    }
+}
@@ -0,0 +1,37 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+import org.springframework.http.HttpStatus;
+
+import jakarta.validation.ValidationException;
+
+record TaskBatchResult(int index, UUID id, int status, String error) {
+    static TaskBatchResult success(int index, UUID id, HttpStatus status) {
+        return new TaskBatchResult(index, id, status.value(), null);
+    }
+
+    static TaskBatchResult failure(int index, UUID id, RuntimeException ex) {
+        return new TaskBatchResult(index, id, statusOf(ex).value(), ex.getMessage());
+    }
+
+    private static HttpStatus statusOf(RuntimeException ex) {
+        if (ex instanceof TaskNotFoundException) {
+            return HttpStatus.NOT_FOUND;
+        }
+
+        if (ex instanceof TaskStatusException) {
+            return HttpStatus.CONFLICT;
+        }
+
+        if (ex instanceof TaskVersionException) {
+            return HttpStatus.PRECONDITION_FAILED;
+        }
+
+        if (ex instanceof ValidationException) {
+            return HttpStatus.BAD_REQUEST;
+        }
+
+        return HttpStatus.INTERNAL_SERVER_ERROR;
+    }
+}
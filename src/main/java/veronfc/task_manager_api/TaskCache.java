@@ -0,0 +1,68 @@
+package veronfc.task_manager_api;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+@Component
+class TaskCache {
+    private static final int STRIPES = 256;
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLongArray evictions = new AtomicLongArray(STRIPES);
+
+    @SuppressWarnings("unchecked")
+    TaskCache(CacheManager cacheManager) {
+        this.cache = (Cache<Object, Object>) cacheManager.getCache(TaskCacheConfig.TASKS).getNativeCache();
+    }
+
+    Optional<Task> get(UUID id) {
+        return Optional.ofNullable((Task) cache.getIfPresent(id));
+    }
+
+    long stamp(UUID id) {
+        return evictions.get(stripeOf(id));
+    }
+
+    void put(Task task, long stamp) {
+        cache.asMap().compute(task.getId(), (id, cached) ->
+            stamp != evictions.get(stripeOf(task.getId())) || isNewer(cached, task) ? cached : task);
+    }
+
+    void evict(UUID id) {
+        afterCommit(() -> cache.asMap().compute(id, (key, cached) -> {
+            evictions.incrementAndGet(stripeOf(id));
+            return null;
+        }));
+    }
+
+    private static boolean isNewer(Object cached, Task task) {
+        return cached instanceof Task current && current.getVersion() != null && task.getVersion() != null
+            && current.getVersion() >= task.getVersion();
+    }
+
+    private static int stripeOf(UUID id) {
+        return id.hashCode() & (STRIPES - 1);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,29 @@
+package veronfc.task_manager_api;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Configuration
+class TaskCacheConfig {
+    static final String TASKS = "tasks";
+
+    @Bean
+    CacheManager cacheManager(@Value("${tasks.cache.max-size:10000}") long maxSize,
+            @Value("${tasks.cache.ttl:10m}") Duration ttl) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(TASKS);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats());
+
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -3,45 +3,146 @@ package veronfc.task_manager_api;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 @RestController
 class TaskController {
+    static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    static final String IDEMPOTENT_REPLAYED = "Idempotent-Replayed";
+
     private final TaskService service;
+    private final TaskEventPublisher events;
+    private final TaskIdempotencyStore idempotency;
+    private final ObjectWriter taskWriter;
+    private final ObjectWriter summaryWriter;
 
-    TaskController(TaskService service) {
+    TaskController(TaskService service, TaskEventPublisher events, TaskIdempotencyStore idempotency,
+            ObjectMapper mapper) {
         this.service = service;
+        this.events = events;
+        this.idempotency = idempotency;
+        this.taskWriter = mapper.writerFor(Task.class);
+        this.summaryWriter = mapper.writerFor(TaskSummary.class);
     }
 
     @GetMapping("all")
-    List<Task> getAllTasks() {
-        return service.retrieveAllTasks();
+    List<?> getAllTasks(@RequestParam(defaultValue = "FULL") TaskView view,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
+        if (includeArchived) {
+            List<Task> tasks = service.retrieveAllTasksIncludingArchived();
+
+            return view == TaskView.SUMMARY ? tasks.stream().map(TaskSummary::of).toList() : tasks;
+        }
+
+        return view == TaskView.SUMMARY ? service.retrieveAllTaskSummaries() : service.retrieveAllTasks();
+    }
+
+    @GetMapping(path = "all/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    StreamingResponseBody streamAllTasks(@RequestParam(defaultValue = "FULL") TaskView view) {
+        if (view == TaskView.SUMMARY) {
+            return output -> service.streamAllTaskSummaries(summary -> writeLine(output, summaryWriter, summary));
+        }
+
+        return output -> service.streamAllTasks(task -> writeLine(output, taskWriter, task));
+    }
+
+    @GetMapping("page")
+    TaskPage<?> getTaskPage(TaskQuery query, @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size, @RequestParam(defaultValue = "FULL") TaskView view) {
+        return view == TaskView.SUMMARY
+            ? service.retrieveTaskSummaryPage(query, cursor, size)
+            : service.retrieveTaskPage(query, cursor, size);
     }
     
+    @GetMapping("search")
+    TaskSearchPage searchTasks(@RequestParam(defaultValue = "") String q, @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return service.searchTasks(q, page, size);
+    }
+
+    @GetMapping("stats")
+    TaskStatistics getStatistics() {
+        return service.retrieveStatistics();
+    }
+
+    @GetMapping(path = "events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    SseEmitter streamEvents(@RequestHeader(name = "Last-Event-ID", required = false) Long lastEventId) {
+        return events.subscribe(lastEventId);
+    }
+
     @PostMapping
-    Task postTask(@Valid @RequestBody CreateTaskDto task) {
-        return service.createTask(task);
+    ResponseEntity<Task> postTask(@Valid @RequestBody CreateTaskDto task,
+            @RequestHeader(name = IDEMPOTENCY_KEY, required = false) String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return ResponseEntity.ok(service.createTask(task));
+        }
+
+        TaskIdempotentResponse response = idempotency.createOnce(idempotencyKey, task, () -> service.createTask(task));
+
+        return ResponseEntity.ok()
+            .header(IDEMPOTENT_REPLAYED, String.valueOf(response.replayed()))
+            .body(response.task());
     }
 
     @GetMapping("{id}")
-    Task getTask(@PathVariable String id) {
-        return service.retrieveTask(id);
+    Task getTask(@PathVariable String id, @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) {
+        Task task = includeArchived ? service.retrieveTaskIncludingArchived(id) : service.retrieveTask(id);
+
+        if (request.checkNotModified(eTagOf(task))) {
+            return null;
+        }
+
+        return task;
     }
     
     @PutMapping
-    Task putTask(@Valid @RequestBody UpdateTaskDto task) {
-        return service.updateTask(task);
+    ResponseEntity<Task> putTask(@Valid @RequestBody UpdateTaskDto task,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            task.setVersion(versionOf(ifMatch));
+        }
+
+        Task updatedTask = service.updateTask(task);
+
+        return ResponseEntity.ok().eTag(eTagOf(updatedTask)).body(updatedTask);
+    }
+
+    @PatchMapping
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    void patchTask(@Valid @RequestBody UpdateTaskDto task,
+            @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        if (ifMatch != null) {
+            task.setVersion(versionOf(ifMatch));
+        }
+
+        service.patchTask(task);
     }
 
     @DeleteMapping("{id}")
@@ -49,4 +150,50 @@ class TaskController {
     void deleteTask(@PathVariable String id) {
         service.deleteTask(id);
     }
+
+    @PostMapping("batch")
+    List<TaskBatchResult> postTasks(@Valid @RequestBody List<CreateTaskDto> tasks) {
+        return service.createTasks(tasks);
+    }
+
+    @PutMapping("batch")
+    List<TaskBatchResult> putTasks(@Valid @RequestBody List<UpdateTaskDto> tasks) {
+        return service.updateTasks(tasks);
+    }
+
+    @DeleteMapping("batch")
+    List<TaskBatchResult> deleteTasks(@RequestBody List<String> ids) {
+        return service.deleteTasks(ids);
+    }
+
+    private static void writeLine(OutputStream output, ObjectWriter writer, Object value) {
+        try {
+            output.write(writer.writeValueAsBytes(value));
+            output.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    private static String eTagOf(Task task) {
+        return "\"" + task.getVersion() + "\"";
+    }
+
+    private static Long versionOf(String ifMatch) {
+        String eTag = ifMatch.trim();
+
+        if (eTag.equals("*")) {
+            return null;
+        }
+
+        if (eTag.startsWith("W/")) {
+            eTag = eTag.substring(2);
+        }
+
+        try {
+            return Long.valueOf(eTag.replace("\"", ""));
+        } catch (NumberFormatException ex) {
+            throw new ValidationException("If-Match header must contain a task version");
+        }
+    }
 }
@@ -1,9 +1,18 @@
 package veronfc.task_manager_api;
 
+import java.util.stream.Collectors;
+
+import org.springframework.context.MessageSourceResolvable;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.BindException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.HandlerMethodValidationException;
 
 import jakarta.validation.ValidationException;
 
@@ -16,18 +25,77 @@ class TaskControllerAdvice {
         return ex.getMessage();
     }
 
+    @ExceptionHandler(TaskIngestionNotFoundException.class)
+    @ResponseStatus(HttpStatus.NOT_FOUND)
+    String ingestionNotFoundHandler(TaskIngestionNotFoundException ex) {
+        return ex.getMessage();
+    }
+
     @ExceptionHandler(TaskStatusException.class)
     @ResponseStatus(HttpStatus.CONFLICT)
     String taskArchivedHandler(TaskStatusException ex) {
         return ex.getMessage();
     }
 
+    @ExceptionHandler(TaskVersionException.class)
+    @ResponseStatus(HttpStatus.PRECONDITION_FAILED)
+    String taskVersionHandler(TaskVersionException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(TaskIdempotencyException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    String idempotencyHandler(TaskIdempotencyException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(TaskIdempotencyMismatchException.class)
+    @ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+    String idempotencyMismatchHandler(TaskIdempotencyMismatchException ex) {
+        return ex.getMessage();
+    }
+
+    @ExceptionHandler(TaskIngestionException.class)
+    ResponseEntity<String> ingestionHandler(TaskIngestionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    String optimisticLockingHandler(OptimisticLockingFailureException ex) {
+        return "Task was modified concurrently, retry with its latest version";
+    }
+
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    @ResponseStatus(HttpStatus.CONFLICT)
+    String dataIntegrityHandler(DataIntegrityViolationException ex) {
+        return "Task conflicts with an existing task";
+    }
+
     @ExceptionHandler(ValidationException.class)
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     String validationHandler(ValidationException ex) {
         return ex.getMessage();
     }
 
+    @ExceptionHandler(BindException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    String bindHandler(BindException ex) {
+        return ex.getAllErrors().stream()
+            .map(MessageSourceResolvable::getDefaultMessage)
+            .collect(Collectors.joining("; "));
+    }
+
+    @ExceptionHandler(HandlerMethodValidationException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    String methodValidationHandler(HandlerMethodValidationException ex) {
+        return ex.getAllErrors().stream()
+            .map(MessageSourceResolvable::getDefaultMessage)
+            .collect(Collectors.joining("; "));
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     String unhandledHandler(Exception ex) {
@@ -0,0 +1,37 @@
+package veronfc.task_manager_api;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+record TaskCursor(LocalDateTime key, UUID id) {
+    private static final String SEPARATOR = "|";
+
+    static TaskCursor of(Task task, TaskSort sort) {
+        return new TaskCursor(sort.keyOf(task), task.getId());
+    }
+
+    static TaskCursor of(TaskSummary summary, TaskSort sort) {
+        return new TaskCursor(sort.keyOf(summary), summary.id());
+    }
+
+    static TaskCursor decode(String token) {
+        String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        int separator = decoded.indexOf(SEPARATOR);
+
+        if (separator < 0) {
+            throw new IllegalArgumentException("Cursor is missing its separator");
+        }
+
+        return new TaskCursor(
+            LocalDateTime.parse(decoded.substring(0, separator)),
+            UUID.fromString(decoded.substring(separator + 1)));
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder()
+            .withoutPadding()
+            .encodeToString((key + SEPARATOR + id).getBytes(StandardCharsets.UTF_8));
+    }
+}
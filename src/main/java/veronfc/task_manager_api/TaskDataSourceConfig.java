@@ -0,0 +1,66 @@
+package veronfc.task_manager_api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@Configuration
+@ConditionalOnProperty(name = "tasks.datasource.replicas.enabled", havingValue = "true")
+class TaskDataSourceConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    TaskRoutingDataSource routingDataSource(HikariDataSource primaryDataSource, DataSourceProperties properties,
+            TaskReplicaGuard guard, @Value("${tasks.datasource.replicas.urls}") List<String> urls) {
+        Map<Object, Object> targets = new HashMap<>();
+        List<String> replicaKeys = new ArrayList<>();
+        List<HikariDataSource> replicas = new ArrayList<>();
+
+        targets.put(TaskRoutingDataSource.PRIMARY, primaryDataSource);
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(urls.get(i))
+                .build();
+            replica.setPoolName("replica-" + i);
+            replica.setMaximumPoolSize(primaryDataSource.getMaximumPoolSize());
+            replica.setAutoCommit(primaryDataSource.isAutoCommit());
+            replica.setReadOnly(true);
+
+            targets.put(replica.getPoolName(), replica);
+            replicaKeys.add(replica.getPoolName());
+            replicas.add(replica);
+        }
+
+        TaskRoutingDataSource routingDataSource = new TaskRoutingDataSource(replicaKeys, replicas, guard);
+        routingDataSource.setTargetDataSources(targets);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+
+        return routingDataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(TaskRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
@@ -0,0 +1,7 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+record TaskDueDate(UUID id, LocalDateTime dueDate) {
+}
@@ -0,0 +1,6 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDate;
+
+record TaskDueDayCount(LocalDate day, Long count) {
+}
@@ -0,0 +1,6 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+record TaskEvent(long id, TaskEventType type, UUID taskId, Task task) {
+}
@@ -0,0 +1,176 @@
+package veronfc.task_manager_api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+@Component
+class TaskEventPublisher {
+    static final String RESET = "reset";
+
+    private final Deque<TaskEvent> history = new ArrayDeque<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final List<Consumer<TaskEvent>> listeners = new CopyOnWriteArrayList<>();
+    private final Executor executor;
+    private final int historySize;
+    private final int bufferSize;
+    private final Duration timeout;
+    private long sequence;
+
+    TaskEventPublisher(@Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME) Executor executor,
+            @Value("${tasks.events.history-size:1000}") int historySize,
+            @Value("${tasks.events.buffer-size:256}") int bufferSize,
+            @Value("${tasks.events.timeout:30m}") Duration timeout) {
+        this.executor = executor;
+        this.historySize = historySize;
+        this.bufferSize = bufferSize;
+        this.timeout = timeout;
+    }
+
+    void publish(TaskEventType type, UUID taskId, Task task) {
+        afterCommit(() -> append(type, taskId, task));
+    }
+
+    void addListener(Consumer<TaskEvent> listener) {
+        listeners.add(listener);
+    }
+
+    SseEmitter subscribe(Long lastEventId) {
+        Subscriber subscriber = new Subscriber(new SseEmitter(timeout.toMillis()));
+
+        synchronized (history) {
+            if (lastEventId != null) {
+                List<TaskEvent> missed = history.stream().filter(event -> event.id() > lastEventId).toList();
+                boolean resumable = lastEventId <= sequence
+                    && (history.isEmpty() || history.peekFirst().id() <= lastEventId + 1)
+                    && missed.size() < bufferSize;
+
+                if (resumable) {
+                    missed.forEach(event -> subscriber.offer(toSse(event)));
+                } else {
+                    subscriber.offer(SseEmitter.event().id(String.valueOf(sequence)).name(RESET).data(""));
+                }
+            }
+
+            subscribers.add(subscriber);
+        }
+
+        return subscriber.emitter;
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private void append(TaskEventType type, UUID taskId, Task task) {
+        TaskEvent event;
+
+        synchronized (history) {
+            event = new TaskEvent(++sequence, type, taskId, task);
+
+            history.addLast(event);
+            if (history.size() > historySize) {
+                history.removeFirst();
+            }
+
+            for (Subscriber subscriber : subscribers) {
+                if (!subscriber.offer(toSse(event))) {
+                    subscriber.close();
+                }
+            }
+        }
+
+        listeners.forEach(listener -> listener.accept(event));
+    }
+
+    private static SseEventBuilder toSse(TaskEvent event) {
+        return SseEmitter.event()
+            .id(String.valueOf(event.id()))
+            .name(event.type().name().toLowerCase())
+            .data(event, MediaType.APPLICATION_JSON);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEventBuilder> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+            emitter.onCompletion(() -> subscribers.remove(this));
+            emitter.onTimeout(() -> subscribers.remove(this));
+            emitter.onError(ex -> subscribers.remove(this));
+        }
+
+        boolean offer(SseEventBuilder event) {
+            if (!buffer.offer(event)) {
+                return false;
+            }
+
+            if (draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+
+            return true;
+        }
+
+        void close() {
+            subscribers.remove(this);
+            emitter.complete();
+        }
+
+        private void drain() {
+            try {
+                SseEventBuilder event;
+
+                while ((event = buffer.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(this);
+                buffer.clear();
+            } finally {
+                draining.set(false);
+            }
+
+            if (!buffer.isEmpty() && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+}
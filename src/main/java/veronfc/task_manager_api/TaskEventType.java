@@ -0,0 +1,10 @@
+package veronfc.task_manager_api;
+
+enum TaskEventType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED,
+    DUE_SOON,
+    OVERDUE
+}
@@ -0,0 +1,38 @@
+package veronfc.task_manager_api;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.config.spi.StandardConverters;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+public class TaskIdGenerator implements BeforeExecutionGenerator {
+    private final int version;
+
+    public TaskIdGenerator(TaskId annotation, Member member, CustomIdGeneratorCreationContext context) {
+        this.version = TaskIds.checkVersion(context.getServiceRegistry()
+            .requireService(ConfigurationService.class)
+            .getSetting(TaskIds.VERSION_SETTING, StandardConverters.INTEGER, TaskIds.DEFAULT_VERSION));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+            EventType eventType) {
+        return currentValue != null ? currentValue : TaskIds.next(version);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    @Override
+    public boolean allowAssignedIdentifiers() {
+        return true;
+    }
+}
@@ -0,0 +1,7 @@
+package veronfc.task_manager_api;
+
+class TaskIdempotencyException extends RuntimeException {
+    TaskIdempotencyException(String key) {
+        super(String.format("A request with Idempotency-Key: %s is still being processed", key));
+    }
+}
@@ -0,0 +1,38 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "task_idempotency_key", indexes = {
+    @Index(name = "idx_task_idempotency_key_created_at", columnList = "createdAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+class TaskIdempotencyKey {
+    @Id
+    @Column(name = "idempotency_key", length = 255)
+    private String key;
+
+    @Column(nullable = false, length = 4096)
+    private String request;
+
+    @Column(nullable = false, length = 8192)
+    private String response;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
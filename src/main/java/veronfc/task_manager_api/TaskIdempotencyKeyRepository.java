@@ -0,0 +1,14 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface TaskIdempotencyKeyRepository extends JpaRepository<TaskIdempotencyKey, String> {
+    @Modifying
+    @Query("delete from TaskIdempotencyKey k where k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,7 @@
+package veronfc.task_manager_api;
+
+class TaskIdempotencyMismatchException extends RuntimeException {
+    TaskIdempotencyMismatchException(String key) {
+        super(String.format("Idempotency-Key: %s was already used with a different request", key));
+    }
+}
@@ -0,0 +1,153 @@
+package veronfc.task_manager_api;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.validation.ValidationException;
+
+@Component
+class TaskIdempotencyStore {
+    static final int MAX_KEY_LENGTH = 255;
+
+    private final TaskIdempotencyKeyRepository repository;
+    private final TaskShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectWriter requestWriter;
+    private final ObjectWriter taskWriter;
+    private final ObjectReader taskReader;
+    private final Cache<String, StoredResponse> responses;
+    private final Map<String, Boolean> inFlight = new ConcurrentHashMap<>();
+    private final Duration ttl;
+    private final boolean persist;
+
+    TaskIdempotencyStore(TaskIdempotencyKeyRepository repository, TaskShards shards,
+            TransactionTemplate transactionTemplate,
+            ObjectMapper mapper, @Value("${tasks.idempotency.max-size:10000}") long maxSize,
+            @Value("${tasks.idempotency.ttl:24h}") Duration ttl,
+            @Value("${tasks.idempotency.persist:false}") boolean persist) {
+        this.repository = repository;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.requestWriter = mapper.writerFor(CreateTaskDto.class);
+        this.taskWriter = mapper.writerFor(Task.class);
+        this.taskReader = mapper.readerFor(Task.class);
+        this.responses = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .build();
+        this.ttl = ttl;
+        this.persist = persist;
+    }
+
+    TaskIdempotentResponse createOnce(String key, CreateTaskDto request, Supplier<Task> create) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key header must be between 1 and 255 characters");
+        }
+
+        String fingerprint = write(requestWriter, request);
+        StoredResponse stored = lookup(key);
+
+        if (stored != null) {
+            return replay(key, stored, fingerprint);
+        }
+
+        if (inFlight.putIfAbsent(key, Boolean.TRUE) != null) {
+            throw new TaskIdempotencyException(key);
+        }
+
+        try {
+            stored = lookup(key);
+
+            if (stored != null) {
+                return replay(key, stored, fingerprint);
+            }
+
+            Task task = persist
+                ? transactionTemplate.execute(status -> {
+                    Task createdTask = create.get();
+                    repository.save(new TaskIdempotencyKey(key, fingerprint, write(taskWriter, createdTask), null));
+
+                    return createdTask;
+                })
+                : create.get();
+
+            responses.put(key, new StoredResponse(fingerprint, task));
+
+            return new TaskIdempotentResponse(task, false);
+        } finally {
+            inFlight.remove(key);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.idempotency.purge-interval:1h}")
+    void purge() {
+        if (persist) {
+            LocalDateTime before = LocalDateTime.now().minus(ttl);
+
+            shards.forEachShard(shard -> transactionTemplate.executeWithoutResult(
+                status -> repository.deleteCreatedBefore(before)));
+        }
+    }
+
+    private StoredResponse lookup(String key) {
+        StoredResponse stored = responses.getIfPresent(key);
+
+        if (stored != null || !persist) {
+            return stored;
+        }
+
+        LocalDateTime createdAfter = LocalDateTime.now().minus(ttl);
+
+        return shards.findFirst(() -> repository.findById(key))
+            .filter(record -> record.getCreatedAt().isAfter(createdAfter))
+            .map(record -> {
+                StoredResponse loaded = new StoredResponse(record.getRequest(), read(record.getResponse()));
+                responses.put(key, loaded);
+
+                return loaded;
+            })
+            .orElse(null);
+    }
+
+    private static TaskIdempotentResponse replay(String key, StoredResponse stored, String fingerprint) {
+        if (!stored.fingerprint().equals(fingerprint)) {
+            throw new TaskIdempotencyMismatchException(key);
+        }
+
+        return new TaskIdempotentResponse(stored.task(), true);
+    }
+
+    private static String write(ObjectWriter writer, Object value) {
+        try {
+            return writer.writeValueAsString(value);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Idempotent response could not be stored", ex);
+        }
+    }
+
+    private Task read(String response) {
+        try {
+            return taskReader.readValue(response);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Idempotent response could not be read", ex);
+        }
+    }
+
+    private record StoredResponse(String fingerprint, Task task) {
+    }
+}
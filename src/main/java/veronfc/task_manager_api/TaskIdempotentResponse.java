@@ -0,0 +1,4 @@
+package veronfc.task_manager_api;
+
+record TaskIdempotentResponse(Task task, boolean replayed) {
+}
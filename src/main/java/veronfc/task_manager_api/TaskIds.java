@@ -0,0 +1,67 @@
+package veronfc.task_manager_api;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.stereotype.Component;
+
+@Component
+class TaskIds implements HibernatePropertiesCustomizer {
+    static final String VERSION_SETTING = "tasks.ids.version";
+    static final int DEFAULT_VERSION = 7;
+
+    private static final int SEQUENCE_BITS = 12;
+    private static final AtomicLong lastTimestamp = new AtomicLong();
+
+    private final int version;
+
+    TaskIds(@Value("${tasks.ids.version:7}") int version) {
+        this.version = checkVersion(version);
+    }
+
+    UUID next() {
+        return next(version);
+    }
+
+    @Override
+    public void customize(Map<String, Object> hibernateProperties) {
+        hibernateProperties.put(VERSION_SETTING, version);
+    }
+
+    static UUID next(int version) {
+        return version == 4 ? UUID.randomUUID() : timeOrdered();
+    }
+
+    static UUID timeOrdered() {
+        long timestamp = nextTimestamp();
+        long mostSigBits = (timestamp >>> SEQUENCE_BITS) << 16 | 0x7000L | (timestamp & 0xfffL);
+        long leastSigBits = ThreadLocalRandom.current().nextLong() & 0x3fffffffffffffffL | 0x8000000000000000L;
+
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    static int checkVersion(int version) {
+        if (version != 4 && version != 7) {
+            throw new IllegalArgumentException(VERSION_SETTING + " must be 4 or 7, not " + version);
+        }
+
+        return version;
+    }
+
+    private static long nextTimestamp() {
+        long now = System.currentTimeMillis() << SEQUENCE_BITS;
+
+        while (true) {
+            long last = lastTimestamp.get();
+            long next = now > last ? now : last + 1;
+
+            if (lastTimestamp.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
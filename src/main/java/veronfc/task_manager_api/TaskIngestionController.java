@@ -0,0 +1,41 @@
+package veronfc.task_manager_api;
+
+import java.net.URI;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import jakarta.validation.ValidationException;
+
+@RestController
+@ConditionalOnProperty(name = "tasks.ingestion.enabled", havingValue = "true")
+class TaskIngestionController {
+    private final TaskIngestionQueue ingestion;
+
+    TaskIngestionController(TaskIngestionQueue ingestion) {
+        this.ingestion = ingestion;
+    }
+
+    @PostMapping("async")
+    ResponseEntity<TaskIngestionStatus> postTaskAsync(@Valid @RequestBody CreateTaskDto task) {
+        TaskIngestionStatus status = ingestion.submit(task);
+
+        return ResponseEntity.accepted().location(URI.create("/ingestion/" + status.id())).body(status);
+    }
+
+    @GetMapping("ingestion/{id}")
+    TaskIngestionStatus getIngestionStatus(@PathVariable String id) {
+        try {
+            return ingestion.status(UUID.fromString(id));
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException("Ingestion ID must be a UUID");
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package veronfc.task_manager_api;
+
+class TaskIngestionException extends RuntimeException {
+    TaskIngestionException(int capacity) {
+        super(String.format("Task ingestion queue is full at %d tasks, retry later", capacity));
+    }
+}
@@ -0,0 +1,9 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+class TaskIngestionNotFoundException extends RuntimeException {
+    TaskIngestionNotFoundException(UUID id) {
+        super(String.format("Ingestion with ID: %s could not be found", id));
+    }
+}
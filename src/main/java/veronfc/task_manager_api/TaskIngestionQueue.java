@@ -0,0 +1,165 @@
+package veronfc.task_manager_api;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+@ConditionalOnProperty(name = "tasks.ingestion.enabled", havingValue = "true")
+class TaskIngestionQueue implements SmartLifecycle {
+    private static final Logger log = LoggerFactory.getLogger(TaskIngestionQueue.class);
+
+    private final TaskService service;
+    private final BlockingQueue<Submission> queue;
+    private final Cache<UUID, TaskIngestionStatus> statuses;
+    private final int capacity;
+    private final int batchSize;
+    private volatile boolean running;
+    private Thread writer;
+
+    TaskIngestionQueue(TaskService service, @Value("${tasks.ingestion.queue-capacity:10000}") int capacity,
+            @Value("${tasks.ingestion.batch-size:500}") int batchSize,
+            @Value("${tasks.ingestion.status-ttl:1h}") Duration statusTtl,
+            @Value("${tasks.ingestion.status-max-size:100000}") long statusMaxSize) {
+        this.service = service;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.newBuilder()
+            .maximumSize(statusMaxSize)
+            .expireAfterWrite(statusTtl)
+            .build();
+        this.capacity = capacity;
+        this.batchSize = Math.min(batchSize, TaskValidator.MAX_BATCH_SIZE);
+    }
+
+    TaskIngestionStatus submit(CreateTaskDto task) {
+        TaskIngestionStatus status = TaskIngestionStatus.pending(UUID.randomUUID());
+        statuses.put(status.id(), status);
+
+        if (!queue.offer(new Submission(status.id(), task))) {
+            statuses.invalidate(status.id());
+            throw new TaskIngestionException(capacity);
+        }
+
+        return status;
+    }
+
+    TaskIngestionStatus status(UUID id) {
+        TaskIngestionStatus status = statuses.getIfPresent(id);
+
+        if (status == null) {
+            throw new TaskIngestionNotFoundException(id);
+        }
+
+        return status;
+    }
+
+    int flush() {
+        List<Submission> batch = new ArrayList<>(batchSize);
+        queue.drainTo(batch, batchSize);
+
+        if (!batch.isEmpty()) {
+            write(batch);
+        }
+
+        return batch.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        writer = new Thread(this::drain, "task-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+
+        try {
+            writer.join();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    @Override
+    public int getPhase() {
+        return SmartLifecycle.DEFAULT_PHASE - 2048;
+    }
+
+    private void drain() {
+        while (running || !queue.isEmpty()) {
+            try {
+                Submission first = queue.poll(100, TimeUnit.MILLISECONDS);
+
+                if (first == null) {
+                    continue;
+                }
+
+                List<Submission> batch = new ArrayList<>(batchSize);
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException ex) {
+                log.error("Task ingestion writer failed", ex);
+            }
+        }
+    }
+
+    private void write(List<Submission> batch) {
+        List<TaskBatchResult> results;
+
+        try {
+            results = service.createTasks(batch.stream().map(Submission::task).toList());
+        } catch (RuntimeException ex) {
+            log.warn("Task ingestion batch of {} failed, writing tasks one by one", batch.size(), ex);
+            batch.forEach(this::writeOne);
+            return;
+        }
+
+        for (int i = 0; i < batch.size(); i++) {
+            UUID id = batch.get(i).id();
+            TaskBatchResult result = results.get(i);
+
+            statuses.put(id, result.status() == HttpStatus.CREATED.value()
+                ? TaskIngestionStatus.accepted(id, result.id())
+                : TaskIngestionStatus.rejected(id, result.error()));
+        }
+    }
+
+    private void writeOne(Submission submission) {
+        try {
+            Task task = service.createTask(submission.task());
+            statuses.put(submission.id(), TaskIngestionStatus.accepted(submission.id(), task.getId()));
+        } catch (RuntimeException ex) {
+            statuses.put(submission.id(), TaskIngestionStatus.rejected(submission.id(), ex.getMessage()));
+        }
+    }
+
+    private record Submission(UUID id, CreateTaskDto task) {
+    }
+}
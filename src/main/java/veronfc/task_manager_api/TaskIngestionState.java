@@ -0,0 +1,7 @@
+package veronfc.task_manager_api;
+
+enum TaskIngestionState {
+    PENDING,
+    ACCEPTED,
+    REJECTED
+}
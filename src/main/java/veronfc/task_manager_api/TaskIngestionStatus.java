@@ -0,0 +1,17 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+record TaskIngestionStatus(UUID id, TaskIngestionState state, UUID taskId, String error) {
+    static TaskIngestionStatus pending(UUID id) {
+        return new TaskIngestionStatus(id, TaskIngestionState.PENDING, null, null);
+    }
+
+    static TaskIngestionStatus accepted(UUID id, UUID taskId) {
+        return new TaskIngestionStatus(id, TaskIngestionState.ACCEPTED, taskId, null);
+    }
+
+    static TaskIngestionStatus rejected(UUID id, String error) {
+        return new TaskIngestionStatus(id, TaskIngestionState.REJECTED, null, error);
+    }
+}
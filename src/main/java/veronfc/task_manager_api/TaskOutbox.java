@@ -0,0 +1,39 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+@Component
+class TaskOutbox {
+    private final TaskOutboxRepository repository;
+    private final ObjectWriter taskWriter;
+
+    TaskOutbox(TaskOutboxRepository repository, ObjectMapper mapper) {
+        this.repository = repository;
+        this.taskWriter = mapper.writerFor(Task.class);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    void record(TaskEventType type, UUID taskId, Task task) {
+        repository.save(new TaskOutboxEvent(null, type, taskId, payloadOf(task), null));
+    }
+
+    private String payloadOf(Task task) {
+        if (task == null) {
+            return null;
+        }
+
+        try {
+            return taskWriter.writeValueAsString(task);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Task could not be written to the outbox", ex);
+        }
+    }
+}
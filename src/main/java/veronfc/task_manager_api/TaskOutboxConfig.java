@@ -0,0 +1,28 @@
+package veronfc.task_manager_api;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Configuration
+@EnableScheduling
+class TaskOutboxConfig {
+    @Bean
+    @ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "log", matchIfMissing = true)
+    TaskOutboxSink logTaskOutboxSink() {
+        return new LogTaskOutboxSink();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tasks.outbox.sink", havingValue = "file")
+    TaskOutboxSink fileTaskOutboxSink(@Value("${tasks.outbox.file:task-outbox.ndjson}") Path file,
+            ObjectMapper mapper) {
+        return new FileTaskOutboxSink(file, mapper);
+    }
+}
@@ -0,0 +1,44 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.hibernate.annotations.CreationTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "task_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+class TaskOutboxEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private TaskEventType type;
+
+    @Column(nullable = false)
+    private UUID taskId;
+
+    @Column(length = 8192)
+    private String payload;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
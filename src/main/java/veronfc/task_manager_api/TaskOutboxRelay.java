@@ -0,0 +1,71 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+@ConditionalOnProperty(name = "tasks.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+class TaskOutboxRelay {
+    private static final Logger log = LoggerFactory.getLogger(TaskOutboxRelay.class);
+
+    private final TaskOutboxRepository repository;
+    private final TaskOutboxSink sink;
+    private final TaskShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    TaskOutboxRelay(TaskOutboxRepository repository, TaskOutboxSink sink, TaskShards shards,
+            TransactionTemplate transactionTemplate,
+            @Value("${tasks.outbox.relay.batch-size:500}") int batchSize) {
+        this.repository = repository;
+        this.sink = sink;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.outbox.relay.poll-interval:1s}")
+    void relay() {
+        try {
+            shards.forEachShard(shard -> {
+                int relayed;
+
+                do {
+                    relayed = relayBatch();
+                } while (relayed == batchSize);
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Task outbox relay failed, retrying on next poll", ex);
+        }
+    }
+
+    int relayBatch() {
+        Integer relayed = transactionTemplate.execute(status -> {
+            List<TaskOutboxEvent> events = repository.findByOrderByIdAsc(Limit.of(batchSize));
+
+            if (events.isEmpty()) {
+                return 0;
+            }
+
+            try {
+                sink.accept(events);
+            } catch (Exception ex) {
+                throw new IllegalStateException("Task outbox sink rejected " + events.size() + " events", ex);
+            }
+
+            repository.deleteAllInBatch(events);
+
+            return events.size();
+        });
+
+        return relayed == null ? 0 : relayed;
+    }
+}
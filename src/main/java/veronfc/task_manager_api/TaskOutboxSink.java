@@ -0,0 +1,7 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+interface TaskOutboxSink {
+    void accept(List<TaskOutboxEvent> events) throws Exception;
+}
@@ -0,0 +1,6 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+record TaskPage<T>(List<T> tasks, String nextCursor) {
+}
@@ -0,0 +1,30 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.format.annotation.DateTimeFormat.ISO;
+
+record TaskQuery(
+    List<TaskStatus> status,
+    @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime dueAfter,
+    @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime dueBefore,
+    @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdAfter,
+    @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime createdBefore,
+    @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime updatedAfter,
+    @DateTimeFormat(iso = ISO.DATE_TIME) LocalDateTime updatedBefore,
+    TaskSort sort,
+    Sort.Direction direction) {
+
+    TaskQuery {
+        status = status == null ? List.of() : List.copyOf(status);
+        sort = sort == null ? TaskSort.CREATED_AT : sort;
+        direction = direction == null ? Sort.Direction.ASC : direction;
+    }
+
+    static TaskQuery unfiltered() {
+        return new TaskQuery(null, null, null, null, null, null, null, null, null);
+    }
+}
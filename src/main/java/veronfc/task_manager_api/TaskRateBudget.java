@@ -0,0 +1,20 @@
+package veronfc.task_manager_api;
+
+enum TaskRateBudget {
+    DEFAULT,
+    LIST,
+    BULK;
+
+    static TaskRateBudget of(String method, String path) {
+        if (path.equals("/batch")) {
+            return BULK;
+        }
+
+        if (method.equals("GET")
+                && (path.equals("/all") || path.startsWith("/all/") || path.equals("/page") || path.equals("/search"))) {
+            return LIST;
+        }
+
+        return DEFAULT;
+    }
+}
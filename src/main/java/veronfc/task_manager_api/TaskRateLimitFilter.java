@@ -0,0 +1,149 @@
+package veronfc.task_manager_api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+@Component
+class TaskRateLimitFilter extends OncePerRequestFilter {
+    static final String API_KEY_HEADER = "X-API-Key";
+
+    private final boolean rateLimitEnabled;
+    private final boolean loadSheddingEnabled;
+    private final Map<TaskRateBudget, Budget> budgets = new EnumMap<>(TaskRateBudget.class);
+    private final Cache<String, TokenBucket> buckets;
+    private final Set<String> apiKeys;
+    private final int maxConcurrent;
+    private final long maxLatencyNanos;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong latencyNanos = new AtomicLong();
+
+    TaskRateLimitFilter(@Value("${tasks.rate-limit.enabled:false}") boolean rateLimitEnabled,
+            @Value("${tasks.rate-limit.default.capacity:200}") long defaultCapacity,
+            @Value("${tasks.rate-limit.default.refill-per-second:100}") double defaultRefill,
+            @Value("${tasks.rate-limit.list.capacity:20}") long listCapacity,
+            @Value("${tasks.rate-limit.list.refill-per-second:5}") double listRefill,
+            @Value("${tasks.rate-limit.bulk.capacity:10}") long bulkCapacity,
+            @Value("${tasks.rate-limit.bulk.refill-per-second:2}") double bulkRefill,
+            @Value("${tasks.rate-limit.max-clients:100000}") long maxClients,
+            @Value("${tasks.rate-limit.api-keys:}") List<String> apiKeys,
+            @Value("${tasks.load-shedding.enabled:true}") boolean loadSheddingEnabled,
+            @Value("${tasks.load-shedding.max-concurrent:200}") int maxConcurrent,
+            @Value("${tasks.load-shedding.max-latency:500ms}") Duration maxLatency) {
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.loadSheddingEnabled = loadSheddingEnabled;
+        this.budgets.put(TaskRateBudget.DEFAULT, new Budget(defaultCapacity, defaultRefill));
+        this.budgets.put(TaskRateBudget.LIST, new Budget(listCapacity, listRefill));
+        this.budgets.put(TaskRateBudget.BULK, new Budget(bulkCapacity, bulkRefill));
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(maxClients)
+            .expireAfterAccess(Duration.ofMinutes(10))
+            .build();
+        this.apiKeys = Set.copyOf(apiKeys);
+        this.maxConcurrent = maxConcurrent;
+        this.maxLatencyNanos = maxLatency.toNanos();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return pathOf(request).startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (rateLimitEnabled) {
+            long waitNanos = acquire(request);
+
+            if (waitNanos > 0) {
+                reject(response, HttpStatus.TOO_MANY_REQUESTS, secondsOf(waitNanos), "Rate limit exceeded, retry later");
+                return;
+            }
+        }
+
+        if (!loadSheddingEnabled) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        int concurrent = inFlight.incrementAndGet();
+
+        try {
+            if (overloaded(concurrent)) {
+                reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1, "Server is overloaded, retry later");
+                return;
+            }
+
+            long start = System.nanoTime();
+
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                long elapsed = System.nanoTime() - start;
+                latencyNanos.accumulateAndGet(elapsed, (average, sample) -> average + (sample - average) / 8);
+            }
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private long acquire(HttpServletRequest request) {
+        TaskRateBudget budget = TaskRateBudget.of(request.getMethod(), pathOf(request));
+        String key = budget + ":" + clientOf(request);
+
+        return buckets.get(key, k -> budgets.get(budget).bucket(System.nanoTime())).tryAcquire(System.nanoTime());
+    }
+
+    private boolean overloaded(int concurrent) {
+        return concurrent > maxConcurrent || (concurrent > maxConcurrent / 2 && latencyNanos.get() > maxLatencyNanos);
+    }
+
+    private static void reject(HttpServletResponse response, HttpStatus status, long retryAfterSeconds, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.getWriter().write(message);
+    }
+
+    private static long secondsOf(long nanos) {
+        return Math.max(1, (nanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+    }
+
+    private String clientOf(HttpServletRequest request) {
+        String apiKey = request.getHeader(API_KEY_HEADER);
+
+        return apiKey != null && apiKeys.contains(apiKey) ? "key:" + apiKey : "ip:" + request.getRemoteAddr();
+    }
+
+    private static String pathOf(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private record Budget(long capacity, double refillPerSecond) {
+        TokenBucket bucket(long now) {
+            return new TokenBucket(capacity, refillPerSecond, now);
+        }
+    }
+}
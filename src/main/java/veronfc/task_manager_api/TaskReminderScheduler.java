@@ -0,0 +1,251 @@
+package veronfc.task_manager_api;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "tasks.reminders.enabled", havingValue = "true", matchIfMissing = true)
+class TaskReminderScheduler implements DisposableBean {
+    private static final Set<TaskStatus> OPEN = Set.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS);
+
+    private final NavigableSet<Reminder> reminders = new TreeSet<>(Comparator
+        .comparing(Reminder::fireAt)
+        .thenComparing(Reminder::taskId));
+    private final Map<UUID, Reminder> remindersByTask = new HashMap<>();
+    private final Set<UUID> changedWhileLoading = new HashSet<>();
+    private final TaskRepository repository;
+    private final TaskShards shards;
+    private final TaskEventPublisher events;
+    private final TaskScheduler scheduler;
+    private final Duration leadTime;
+    private final Duration horizon;
+    private LocalDateTime loadedUntil;
+    private int loading;
+    private LocalDateTime timerAt;
+    private ScheduledFuture<?> timer;
+
+    @Autowired
+    TaskReminderScheduler(TaskRepository repository, TaskShards shards, TaskEventPublisher events,
+            @Value("${tasks.reminders.lead-time:1h}") Duration leadTime,
+            @Value("${tasks.reminders.horizon:1d}") Duration horizon) {
+        this(repository, shards, events, reminderScheduler(), leadTime, horizon);
+    }
+
+    TaskReminderScheduler(TaskRepository repository, TaskShards shards, TaskEventPublisher events, TaskScheduler scheduler,
+            @Value("${tasks.reminders.lead-time:1h}") Duration leadTime,
+            @Value("${tasks.reminders.horizon:1d}") Duration horizon) {
+        this.repository = repository;
+        this.shards = shards;
+        this.events = events;
+        this.scheduler = scheduler;
+        this.leadTime = leadTime;
+        this.horizon = horizon;
+
+        events.addListener(this::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+
+        load(null, now.plus(horizon), now);
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.reminders.refresh-interval:1h}",
+            initialDelayString = "${tasks.reminders.refresh-interval:1h}")
+    void extend() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime from;
+
+        synchronized (this) {
+            from = loadedUntil == null ? now : loadedUntil;
+        }
+
+        load(from, now.plus(horizon), now);
+    }
+
+    void apply(TaskEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED -> {
+                Task task = event.task() != null
+                    ? event.task()
+                    : shards.inTransaction(shards.shardOf(event.taskId()), false,
+                        () -> repository.findById(event.taskId())).orElse(null);
+
+                if (task == null) {
+                    cancel(event.taskId());
+                } else {
+                    schedule(task, LocalDateTime.now());
+                }
+            }
+            case DELETED, ARCHIVED -> cancel(event.taskId());
+            default -> {
+            }
+        }
+    }
+
+    synchronized void schedule(Task task, LocalDateTime now) {
+        remove(task.getId());
+        changed(task.getId());
+
+        if (OPEN.contains(task.getStatus()) && task.getDueDate() != null
+                && (loadedUntil == null || !task.getDueDate().isAfter(loadedUntil))) {
+            track(task.getId(), task.getDueDate(), now);
+        }
+
+        arm();
+    }
+
+    synchronized void cancel(UUID taskId) {
+        remove(taskId);
+        changed(taskId);
+        arm();
+    }
+
+    int fireDue(LocalDateTime now) {
+        List<Reminder> due = new ArrayList<>();
+
+        synchronized (this) {
+            timerAt = null;
+
+            while (!reminders.isEmpty() && !reminders.first().fireAt().isAfter(now)) {
+                Reminder reminder = reminders.pollFirst();
+                remindersByTask.remove(reminder.taskId());
+                due.add(reminder);
+
+                if (reminder.kind() == TaskEventType.DUE_SOON) {
+                    add(new Reminder(reminder.taskId(), reminder.dueDate(), TaskEventType.OVERDUE,
+                        max(now, reminder.dueDate())));
+                }
+            }
+
+            arm();
+        }
+
+        due.forEach(reminder -> events.publish(reminder.kind(), reminder.taskId(), null));
+
+        return due.size();
+    }
+
+    synchronized int size() {
+        return reminders.size();
+    }
+
+    @Override
+    public void destroy() {
+        if (scheduler instanceof ThreadPoolTaskScheduler pool) {
+            pool.shutdown();
+        }
+    }
+
+    private void load(LocalDateTime from, LocalDateTime to, LocalDateTime now) {
+        synchronized (this) {
+            loading++;
+        }
+
+        try {
+            List<TaskDueDate> dueDates = shards.gather(() -> from == null
+                ? repository.findDueDatesUntil(OPEN, to)
+                : repository.findDueDatesBetween(OPEN, from, to), null);
+
+            synchronized (this) {
+                dueDates.forEach(dueDate -> {
+                    if (!remindersByTask.containsKey(dueDate.id()) && !changedWhileLoading.contains(dueDate.id())) {
+                        track(dueDate.id(), dueDate.dueDate(), now);
+                    }
+                });
+
+                loadedUntil = loadedUntil == null || to.isAfter(loadedUntil) ? to : loadedUntil;
+                arm();
+            }
+        } finally {
+            synchronized (this) {
+                if (--loading == 0) {
+                    changedWhileLoading.clear();
+                }
+            }
+        }
+    }
+
+    private void changed(UUID taskId) {
+        if (loading > 0) {
+            changedWhileLoading.add(taskId);
+        }
+    }
+
+    private void track(UUID taskId, LocalDateTime dueDate, LocalDateTime now) {
+        add(now.isBefore(dueDate)
+            ? new Reminder(taskId, dueDate, TaskEventType.DUE_SOON, max(now, dueDate.minus(leadTime)))
+            : new Reminder(taskId, dueDate, TaskEventType.OVERDUE, now));
+    }
+
+    private void add(Reminder reminder) {
+        reminders.add(reminder);
+        remindersByTask.put(reminder.taskId(), reminder);
+    }
+
+    private void remove(UUID taskId) {
+        Reminder reminder = remindersByTask.remove(taskId);
+
+        if (reminder != null) {
+            reminders.remove(reminder);
+        }
+    }
+
+    private void arm() {
+        if (reminders.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime next = reminders.first().fireAt();
+
+        if (timerAt != null && !next.isBefore(timerAt)) {
+            return;
+        }
+
+        if (timer != null) {
+            timer.cancel(false);
+        }
+
+        timerAt = next;
+        timer = scheduler.schedule(() -> fireDue(LocalDateTime.now()), next.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private static ThreadPoolTaskScheduler reminderScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setThreadNamePrefix("task-reminders-");
+        scheduler.initialize();
+
+        return scheduler;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record Reminder(UUID taskId, LocalDateTime dueDate, TaskEventType kind, LocalDateTime fireAt) {
+    }
+}
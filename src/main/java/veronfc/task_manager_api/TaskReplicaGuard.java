@@ -0,0 +1,72 @@
+package veronfc.task_manager_api;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@Component
+class TaskReplicaGuard {
+    private final Cache<UUID, Boolean> recentWrites;
+    private final long lagNanos;
+    private final AtomicLong lastWriteNanos;
+
+    TaskReplicaGuard(TaskEventPublisher events, @Value("${tasks.datasource.replica-lag:1s}") Duration lag) {
+        this.recentWrites = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(lag)
+            .build();
+        this.lagNanos = lag.toNanos();
+        this.lastWriteNanos = new AtomicLong(System.nanoTime() - lagNanos);
+
+        events.addListener(this::apply);
+    }
+
+    void apply(TaskEvent event) {
+        switch (event.type()) {
+            case CREATED, UPDATED, DELETED, ARCHIVED -> {
+                recentWrites.put(event.taskId(), Boolean.TRUE);
+                lastWriteNanos.set(System.nanoTime());
+            }
+            default -> {
+            }
+        }
+    }
+
+    void pinIfRecentlyWritten() {
+        if (System.nanoTime() - lastWriteNanos.get() < lagNanos) {
+            pinToPrimary();
+        }
+    }
+
+    void pinIfRecentlyWritten(UUID id) {
+        if (recentWrites.getIfPresent(id) != null) {
+            pinToPrimary();
+        }
+    }
+
+    boolean isPinnedToPrimary() {
+        return TransactionSynchronizationManager.hasResource(this);
+    }
+
+    private void pinToPrimary() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive() || isPinnedToPrimary()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.bindResource(this, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(TaskReplicaGuard.this);
+            }
+        });
+    }
+}
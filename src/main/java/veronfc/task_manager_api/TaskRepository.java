@@ -1,10 +1,72 @@
 package veronfc.task_manager_api;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-interface TaskRepository extends JpaRepository<Task, UUID> {
+import jakarta.persistence.QueryHint;
+
+interface TaskRepository extends JpaRepository<Task, UUID>, TaskRepositoryCustom {
     Optional<Task> findByTitle(String title);
+
+    List<TaskTitle> findByTitleIn(Collection<String> titles);
+
+    List<TaskSummary> findAllSummariesBy();
+
+    List<Task> findAllByOrderByCreatedAtAscIdAsc();
+
+    List<TaskSummary> findAllSummariesByOrderByCreatedAtAscIdAsc();
+
+    @Query("select t.title from Task t where t.id = :id")
+    Optional<String> findTitleById(@Param("id") UUID id);
+
+    @Query("select t from Task t order by t.createdAt, t.id")
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<Task> streamAll();
+
+    @Query("""
+        select new veronfc.task_manager_api.TaskSummary(t.id, t.title, t.status, t.dueDate, t.createdAt, t.updatedAt)
+        from Task t
+        order by t.createdAt, t.id""")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    Stream<TaskSummary> streamAllSummaries();
+
+    @Query("select max(t.updatedAt) from Task t")
+    Optional<LocalDateTime> findLastUpdatedAt();
+
+    @Query("select new veronfc.task_manager_api.TaskStatusCount(t.status, count(t)) from Task t group by t.status")
+    List<TaskStatusCount> countGroupedByStatus();
+
+    @Query("""
+        select new veronfc.task_manager_api.TaskDueDayCount(cast(t.dueDate as LocalDate), count(t))
+        from Task t
+        where t.status in :statuses
+        group by cast(t.dueDate as LocalDate)""")
+    List<TaskDueDayCount> countDueDaysByStatusIn(@Param("statuses") Collection<TaskStatus> statuses);
+
+    @Query("""
+        select new veronfc.task_manager_api.TaskDueDate(t.id, t.dueDate)
+        from Task t
+        where t.status in :statuses and t.dueDate > :from and t.dueDate <= :to""")
+    List<TaskDueDate> findDueDatesBetween(@Param("statuses") Collection<TaskStatus> statuses,
+            @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("""
+        select new veronfc.task_manager_api.TaskDueDate(t.id, t.dueDate)
+        from Task t
+        where t.status in :statuses and t.dueDate <= :to""")
+    List<TaskDueDate> findDueDatesUntil(@Param("statuses") Collection<TaskStatus> statuses,
+            @Param("to") LocalDateTime to);
 }
@@ -0,0 +1,11 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+interface TaskRepositoryCustom {
+    List<Task> findPage(TaskQuery query, TaskCursor after, int limit);
+
+    List<TaskSummary> findSummaryPage(TaskQuery query, TaskCursor after, int limit);
+
+    int patch(UpdateTaskDto changes);
+}
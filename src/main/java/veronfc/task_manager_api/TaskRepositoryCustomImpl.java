@@ -0,0 +1,139 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiFunction;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+class TaskRepositoryCustomImpl implements TaskRepositoryCustom {
+    private final EntityManager entityManager;
+
+    TaskRepositoryCustomImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Task> findPage(TaskQuery query, TaskCursor after, int limit) {
+        return findPage(Task.class, (builder, task) -> task, query, after, limit);
+    }
+
+    @Override
+    public List<TaskSummary> findSummaryPage(TaskQuery query, TaskCursor after, int limit) {
+        return findPage(TaskSummary.class, (builder, task) -> builder.construct(TaskSummary.class,
+            task.get("id"),
+            task.get("title"),
+            task.get("status"),
+            task.get("dueDate"),
+            task.get("createdAt"),
+            task.get("updatedAt")), query, after, limit);
+    }
+
+    @Override
+    @Transactional
+    public int patch(UpdateTaskDto changes) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Task> update = builder.createCriteriaUpdate(Task.class);
+        Root<Task> task = update.from(Task.class);
+
+        if (changes.getTitle() != null) {
+            update.set(task.<String>get("title"), changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            update.set(task.<String>get("description"), changes.getDescription());
+        }
+        if (changes.getStatus() != null) {
+            update.set(task.<TaskStatus>get("status"), changes.getStatus());
+        }
+        if (changes.getDueDate() != null) {
+            update.set(task.<LocalDateTime>get("dueDate"), changes.getDueDate());
+        }
+        update.set(task.<LocalDateTime>get("updatedAt"), LocalDateTime.now());
+        update.set(task.<Long>get("version"), builder.sum(task.<Long>get("version"), 1L));
+
+        Predicate matches = builder.and(
+            builder.equal(task.get("id"), changes.getId()),
+            builder.notEqual(task.get("status"), TaskStatus.COMPLETE));
+
+        if (changes.getVersion() != null) {
+            matches = builder.and(matches, builder.equal(task.get("version"), changes.getVersion()));
+        }
+        update.where(matches);
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+
+    private <T> List<T> findPage(Class<T> type, BiFunction<CriteriaBuilder, Root<Task>, Selection<T>> selection,
+            TaskQuery query, TaskCursor after, int limit) {
+        CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> select = builder.createQuery(type);
+        Root<Task> task = select.from(Task.class);
+        select.select(selection.apply(builder, task));
+
+        Path<LocalDateTime> key = task.get(query.sort().property());
+        Path<UUID> id = task.get("id");
+        boolean ascending = query.direction() == Sort.Direction.ASC;
+
+        List<Predicate> predicates = filter(builder, task, query);
+
+        if (after != null) {
+            predicates.add(ascending
+                ? builder.greaterThanOrEqualTo(key, after.key())
+                : builder.lessThanOrEqualTo(key, after.key()));
+            predicates.add(ascending
+                ? builder.or(
+                    builder.greaterThan(key, after.key()),
+                    builder.and(builder.equal(key, after.key()), builder.greaterThan(id, after.id())))
+                : builder.or(
+                    builder.lessThan(key, after.key()),
+                    builder.and(builder.equal(key, after.key()), builder.lessThan(id, after.id()))));
+        }
+
+        select.where(predicates.toArray(Predicate[]::new));
+        select.orderBy(
+            ascending ? builder.asc(key) : builder.desc(key),
+            ascending ? builder.asc(id) : builder.desc(id));
+
+        return entityManager.createQuery(select).setMaxResults(limit).getResultList();
+    }
+
+    private List<Predicate> filter(CriteriaBuilder builder, Root<Task> task, TaskQuery query) {
+        List<Predicate> predicates = new ArrayList<>();
+
+        if (!query.status().isEmpty()) {
+            predicates.add(task.get("status").in(query.status()));
+        }
+        if (query.dueAfter() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(task.get("dueDate"), query.dueAfter()));
+        }
+        if (query.dueBefore() != null) {
+            predicates.add(builder.lessThan(task.get("dueDate"), query.dueBefore()));
+        }
+        if (query.createdAfter() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(task.get("createdAt"), query.createdAfter()));
+        }
+        if (query.createdBefore() != null) {
+            predicates.add(builder.lessThan(task.get("createdAt"), query.createdBefore()));
+        }
+        if (query.updatedAfter() != null) {
+            predicates.add(builder.greaterThanOrEqualTo(task.get("updatedAt"), query.updatedAfter()));
+        }
+        if (query.updatedBefore() != null) {
+            predicates.add(builder.lessThan(task.get("updatedAt"), query.updatedBefore()));
+        }
+
+        return predicates;
+    }
+}
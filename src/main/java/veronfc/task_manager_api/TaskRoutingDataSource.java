@@ -0,0 +1,40 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class TaskRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    static final String PRIMARY = "primary";
+
+    private final List<String> replicaKeys;
+    private final List<HikariDataSource> replicas;
+    private final TaskReplicaGuard guard;
+    private final AtomicInteger next = new AtomicInteger();
+
+    TaskRoutingDataSource(List<String> replicaKeys, List<HikariDataSource> replicas, TaskReplicaGuard guard) {
+        this.replicaKeys = replicaKeys;
+        this.replicas = replicas;
+        this.guard = guard;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (replicaKeys.isEmpty()
+                || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || guard.isPinnedToPrimary()) {
+            return PRIMARY;
+        }
+
+        return replicaKeys.get(Math.floorMod(next.getAndIncrement(), replicaKeys.size()));
+    }
+
+    @Override
+    public void close() {
+        replicas.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,19 @@
+package veronfc.task_manager_api;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FSDirectory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+class TaskSearchConfig {
+    @Bean(destroyMethod = "close")
+    Directory taskSearchDirectory(@Value("${tasks.search.path:}") String path) throws IOException {
+        return path.isBlank() ? new ByteBuffersDirectory() : FSDirectory.open(Path.of(path));
+    }
+}
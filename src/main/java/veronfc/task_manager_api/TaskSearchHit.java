@@ -0,0 +1,6 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+record TaskSearchHit(UUID id, String title, float score) {
+}
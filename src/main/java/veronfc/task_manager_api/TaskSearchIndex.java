@@ -0,0 +1,279 @@
+package veronfc.task_manager_api;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.standard.StandardAnalyzer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.SegmentInfos;
+import org.apache.lucene.index.StoredFields;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause.Occur;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.ControlledRealTimeReopenThread;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.ScoreDoc;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.TotalHits;
+import org.apache.lucene.store.Directory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ValidationException;
+
+@Component
+class TaskSearchIndex implements DisposableBean {
+    private static final Logger log = LoggerFactory.getLogger(TaskSearchIndex.class);
+
+    private static final String ID = "id";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+    private static final String STATE = "state";
+    private static final String CLEAN = "clean";
+    private static final String OPEN = "open";
+    private static final String LAST_UPDATED = "lastUpdated";
+
+    private final Analyzer analyzer = new StandardAnalyzer();
+    private final IndexWriter writer;
+    private final SearcherManager searchers;
+    private final ControlledRealTimeReopenThread<IndexSearcher> reopener;
+    private final AtomicLong generation = new AtomicLong();
+    private final AtomicReference<LocalDateTime> lastUpdated = new AtomicReference<>();
+    private final boolean cleanlyClosed;
+    private final String closedAt;
+    private final TaskRepository repository;
+    private final TaskShards shards;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    TaskSearchIndex(Directory directory, TaskRepository repository, TaskShards shards,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager, TaskEventPublisher events,
+            @Value("${tasks.search.refresh-interval:1s}") Duration refreshInterval) throws IOException {
+        Map<String, String> committed = DirectoryReader.indexExists(directory)
+            ? SegmentInfos.readLatestCommit(directory).getUserData()
+            : Map.of();
+        this.cleanlyClosed = CLEAN.equals(committed.get(STATE));
+        this.closedAt = committed.get(LAST_UPDATED);
+        this.writer = new IndexWriter(directory,
+            new IndexWriterConfig(analyzer).setOpenMode(IndexWriterConfig.OpenMode.CREATE_OR_APPEND));
+        this.searchers = new SearcherManager(writer, null);
+        this.reopener = new ControlledRealTimeReopenThread<>(writer, searchers,
+            refreshInterval.toMillis() / 1000.0, Math.min(0.025, refreshInterval.toMillis() / 1000.0));
+        this.reopener.setName("task-search-refresh");
+        this.reopener.setDaemon(true);
+        this.reopener.start();
+        this.repository = repository;
+        this.shards = shards;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+
+        events.addListener(this::apply);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuild() throws IOException {
+        Optional<LocalDateTime> lastUpdatedTask = cleanlyClosed ? findLastUpdatedAt() : Optional.empty();
+
+        if (cleanlyClosed && Objects.equals(closedAt, lastUpdatedTask.map(TaskSearchIndex::mark).orElse(""))
+                && countTasks() == writer.getDocStats().numDocs) {
+            lastUpdatedTask.ifPresent(this::updated);
+            log.info("Reusing the search index of {} tasks", writer.getDocStats().numDocs);
+        } else {
+            writer.deleteAll();
+            lastUpdated.set(null);
+
+            shards.forEachShard(shard -> transactionTemplate.executeWithoutResult(status -> {
+                try (Stream<Task> tasks = repository.streamAll()) {
+                    tasks.forEach(task -> {
+                        write(task);
+                        entityManager.detach(task);
+                    });
+                }
+            }));
+        }
+
+        commit(OPEN);
+        searchers.maybeRefresh();
+    }
+
+    void apply(TaskEvent event) {
+        try {
+            switch (event.type()) {
+                case CREATED, UPDATED -> {
+                    if (event.task() != null) {
+                        write(event.task());
+                    } else {
+                        shards.inTransaction(shards.shardOf(event.taskId()), false,
+                            () -> repository.findById(event.taskId())).ifPresent(this::write);
+                    }
+                }
+                case DELETED, ARCHIVED -> advance(writer.deleteDocuments(new Term(ID, event.taskId().toString())));
+            }
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Search index could not apply event {} for task {}", event.id(), event.taskId(), ex);
+        }
+    }
+
+    TaskSearchPage search(String text, int page, int size) {
+        Query query = parse(text);
+
+        try {
+            IndexSearcher searcher = searchers.acquire();
+
+            try {
+                TopDocs top = searcher.search(query, (page + 1) * size);
+                StoredFields fields = searcher.storedFields();
+                List<TaskSearchHit> hits = new ArrayList<>(size);
+
+                for (int i = page * size; i < top.scoreDocs.length; i++) {
+                    ScoreDoc hit = top.scoreDocs[i];
+                    Document document = fields.document(hit.doc);
+                    hits.add(new TaskSearchHit(UUID.fromString(document.get(ID)), document.get(TITLE), hit.score));
+                }
+
+                return new TaskSearchPage(hits, top.totalHits.value,
+                    top.totalHits.relation == TotalHits.Relation.EQUAL_TO, page, size);
+            } finally {
+                searchers.release(searcher);
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    void awaitRefresh() throws InterruptedException {
+        reopener.waitForGeneration(generation.get());
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        reopener.close();
+        searchers.close();
+        commit(CLEAN);
+        writer.close();
+    }
+
+    private long countTasks() {
+        LongAdder count = new LongAdder();
+        shards.forEachShard(shard -> count.add(transactionTemplate.execute(status -> repository.count())));
+
+        return count.sum();
+    }
+
+    private Optional<LocalDateTime> findLastUpdatedAt() {
+        List<LocalDateTime> latest = new ArrayList<>();
+        shards.forEachShard(shard -> transactionTemplate.execute(status -> repository.findLastUpdatedAt())
+            .ifPresent(latest::add));
+
+        return latest.stream().max(LocalDateTime::compareTo);
+    }
+
+    private void updated(LocalDateTime updatedAt) {
+        lastUpdated.accumulateAndGet(updatedAt,
+            (current, candidate) -> current == null || candidate.isAfter(current) ? candidate : current);
+    }
+
+    private static String mark(LocalDateTime updatedAt) {
+        return updatedAt.truncatedTo(ChronoUnit.MILLIS).toString();
+    }
+
+    private void advance(long sequence) {
+        generation.accumulateAndGet(sequence, Math::max);
+    }
+
+    private void commit(String state) throws IOException {
+        LocalDateTime updatedAt = lastUpdated.get();
+        writer.setLiveCommitData(
+            Map.of(STATE, state, LAST_UPDATED, updatedAt == null ? "" : mark(updatedAt)).entrySet());
+        writer.commit();
+    }
+
+    private Query parse(String text) {
+        BooleanQuery.Builder query = new BooleanQuery.Builder();
+        int terms = 0;
+
+        try (TokenStream stream = analyzer.tokenStream(TITLE, text)) {
+            CharTermAttribute term = stream.addAttribute(CharTermAttribute.class);
+            stream.reset();
+
+            while (stream.incrementToken()) {
+                query.add(termQuery(term.toString()), Occur.MUST);
+                terms++;
+            }
+
+            stream.end();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        if (terms == 0) {
+            throw new ValidationException("Search query must contain at least one word");
+        }
+
+        return query.build();
+    }
+
+    private static Query termQuery(String term) {
+        return new BooleanQuery.Builder()
+            .add(new BoostQuery(new TermQuery(new Term(TITLE, term)), 4f), Occur.SHOULD)
+            .add(new TermQuery(new Term(DESCRIPTION, term)), Occur.SHOULD)
+            .add(new BoostQuery(new PrefixQuery(new Term(TITLE, term)), 2f), Occur.SHOULD)
+            .add(new BoostQuery(new PrefixQuery(new Term(DESCRIPTION, term)), 0.5f), Occur.SHOULD)
+            .build();
+    }
+
+    private void write(Task task) {
+        Document document = new Document();
+        document.add(new StringField(ID, task.getId().toString(), Field.Store.YES));
+        document.add(new TextField(TITLE, task.getTitle(), Field.Store.YES));
+
+        if (task.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, task.getDescription(), Field.Store.NO));
+        }
+
+        try {
+            advance(writer.updateDocument(new Term(ID, task.getId().toString()), document));
+
+            if (task.getUpdatedAt() != null) {
+                updated(task.getUpdatedAt());
+            }
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
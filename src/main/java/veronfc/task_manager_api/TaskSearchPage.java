@@ -0,0 +1,6 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+record TaskSearchPage(List<TaskSearchHit> hits, long totalHits, boolean totalHitsExact, int page, int size) {
+}
@@ -1,90 +1,394 @@
 package veronfc.task_manager_api;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.annotation.Timed;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ValidationException;
 
 interface ITaskService {
     public List<Task> retrieveAllTasks();
 
+    public List<Task> retrieveAllTasksIncludingArchived();
+
+    public List<TaskSummary> retrieveAllTaskSummaries();
+
+    public TaskPage<Task> retrieveTaskPage(TaskQuery query, String cursor, int size);
+
+    public TaskPage<TaskSummary> retrieveTaskSummaryPage(TaskQuery query, String cursor, int size);
+
+    public void streamAllTasks(Consumer<Task> action);
+
+    public TaskSearchPage searchTasks(String query, int page, int size);
+
+    public TaskStatistics retrieveStatistics();
+
+    public void streamAllTaskSummaries(Consumer<TaskSummary> action);
+
     public Task createTask(CreateTaskDto task);
 
     public Task retrieveTask(String id);
 
+    public Task retrieveTaskIncludingArchived(String id);
+
     public Task updateTask(UpdateTaskDto task);
 
+    public void patchTask(UpdateTaskDto task);
+
     public void deleteTask(String id);
+
+    public List<TaskBatchResult> createTasks(List<CreateTaskDto> tasks);
+
+    public List<TaskBatchResult> updateTasks(List<UpdateTaskDto> tasks);
+
+    public List<TaskBatchResult> deleteTasks(List<String> ids);
 }
 
 @Service
+@Timed("tasks.service")
 class TaskService implements ITaskService {
+    private static final int STREAM_CHUNK_SIZE = 500;
+    private static final Comparator<Task> CREATED_ORDER = Comparator
+        .comparing(Task::getCreatedAt)
+        .thenComparing(Task::getId, TaskShards.ID_ORDER);
+    private static final Comparator<TaskSummary> SUMMARY_CREATED_ORDER = Comparator
+        .comparing(TaskSummary::createdAt)
+        .thenComparing(TaskSummary::id, TaskShards.ID_ORDER);
+
     private final TaskRepository repository;
+    private final TaskArchiveRepository archiveRepository;
     private final TaskValidator validator;
+    private final TaskTitleCache titleCache;
+    private final TaskCache taskCache;
+    private final TaskEventPublisher events;
+    private final TaskOutbox outbox;
+    private final TaskSearchIndex searchIndex;
+    private final TaskReplicaGuard replicaGuard;
+    private final TaskShards shards;
+    private final TaskTitleRegistry titleRegistry;
+    private final TaskIds ids;
+    private final TaskStats stats;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readTemplate;
 
-    TaskService(TaskRepository repository, TaskValidator validator) {
+    TaskService(TaskRepository repository, TaskArchiveRepository archiveRepository, TaskValidator validator, TaskTitleCache titleCache, TaskCache taskCache,
+            TaskEventPublisher events, TaskOutbox outbox, TaskSearchIndex searchIndex, TaskReplicaGuard replicaGuard,
+            TaskShards shards, TaskTitleRegistry titleRegistry, TaskIds ids, TaskStats stats,
+            EntityManager entityManager, PlatformTransactionManager transactionManager) {
         this.repository = repository;
+        this.archiveRepository = archiveRepository;
         this.validator = validator;
+        this.titleCache = titleCache;
+        this.taskCache = taskCache;
+        this.events = events;
+        this.outbox = outbox;
+        this.searchIndex = searchIndex;
+        this.replicaGuard = replicaGuard;
+        this.shards = shards;
+        this.titleRegistry = titleRegistry;
+        this.ids = ids;
+        this.stats = stats;
+        this.entityManager = entityManager;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setReadOnly(true);
     }
 
+    @Transactional(readOnly = true)
     public List<Task> retrieveAllTasks() {
+        replicaGuard.pinIfRecentlyWritten();
+
+        if (shards.isEnabled()) {
+            return shards.gather(repository::findAllByOrderByCreatedAtAscIdAsc, CREATED_ORDER);
+        }
+
         return repository.findAll();
     }
 
-    public Task createTask(CreateTaskDto task) {
-        validator.checkTitleValidity(task.getTitle(), null);
-        validator.checkDueDateValidity(task.getDueDate());
+    @Transactional(readOnly = true)
+    public List<Task> retrieveAllTasksIncludingArchived() {
+        replicaGuard.pinIfRecentlyWritten();
+
+        List<Task> active = shards.gather(repository::findAllByOrderByCreatedAtAscIdAsc, CREATED_ORDER);
+        List<Task> archived = shards.gather(() -> archiveRepository.findAllByOrderByCreatedAtAscIdAsc().stream()
+            .map(ArchivedTask::toTask)
+            .toList(), CREATED_ORDER);
+
+        return TaskShards.merge(List.of(active, archived), CREATED_ORDER);
+    }
+
+    @Transactional(readOnly = true)
+    public List<TaskSummary> retrieveAllTaskSummaries() {
+        replicaGuard.pinIfRecentlyWritten();
+
+        if (shards.isEnabled()) {
+            return shards.gather(repository::findAllSummariesByOrderByCreatedAtAscIdAsc, SUMMARY_CREATED_ORDER);
+        }
+
+        return repository.findAllSummariesBy();
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage<Task> retrieveTaskPage(TaskQuery query, String cursor, int size) {
+        validator.checkPageSizeValidity(size);
+        replicaGuard.pinIfRecentlyWritten();
+
+        TaskCursor after = cursor == null ? null : validator.checkCursorValidity(cursor);
+        List<Task> tasks = shards.isEnabled()
+            ? shards.gather(() -> repository.findPage(query, after, size + 1),
+                pageOrder(query, (Task task) -> query.sort().keyOf(task), Task::getId))
+            : repository.findPage(query, after, size + 1);
+
+        if (tasks.size() <= size) {
+            return new TaskPage<>(tasks, null);
+        }
+
+        List<Task> page = tasks.subList(0, size);
+
+        return new TaskPage<>(page, TaskCursor.of(page.get(size - 1), query.sort()).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public TaskPage<TaskSummary> retrieveTaskSummaryPage(TaskQuery query, String cursor, int size) {
+        validator.checkPageSizeValidity(size);
+        replicaGuard.pinIfRecentlyWritten();
+
+        TaskCursor after = cursor == null ? null : validator.checkCursorValidity(cursor);
+        List<TaskSummary> summaries = shards.isEnabled()
+            ? shards.gather(() -> repository.findSummaryPage(query, after, size + 1),
+                pageOrder(query, (TaskSummary summary) -> query.sort().keyOf(summary), TaskSummary::id))
+            : repository.findSummaryPage(query, after, size + 1);
+
+        if (summaries.size() <= size) {
+            return new TaskPage<>(summaries, null);
+        }
+
+        List<TaskSummary> page = summaries.subList(0, size);
+
+        return new TaskPage<>(page, TaskCursor.of(page.get(size - 1), query.sort()).encode());
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllTasks(Consumer<Task> action) {
+        replicaGuard.pinIfRecentlyWritten();
+
+        if (shards.isEnabled()) {
+            shards.forEachMerged((Task last, Integer limit) -> repository.findPage(TaskQuery.unfiltered(),
+                last == null ? null : TaskCursor.of(last, TaskSort.CREATED_AT), limit),
+                STREAM_CHUNK_SIZE, CREATED_ORDER, action);
+            return;
+        }
+
+        try (Stream<Task> tasks = repository.streamAll()) {
+            tasks.forEach(task -> {
+                action.accept(task);
+                entityManager.detach(task);
+            });
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAllTaskSummaries(Consumer<TaskSummary> action) {
+        replicaGuard.pinIfRecentlyWritten();
 
+        if (shards.isEnabled()) {
+            shards.forEachMerged((TaskSummary last, Integer limit) -> repository.findSummaryPage(TaskQuery.unfiltered(),
+                last == null ? null : TaskCursor.of(last, TaskSort.CREATED_AT), limit),
+                STREAM_CHUNK_SIZE, SUMMARY_CREATED_ORDER, action);
+            return;
+        }
+
+        try (Stream<TaskSummary> summaries = repository.streamAllSummaries()) {
+            summaries.forEach(action);
+        }
+    }
+
+    public TaskSearchPage searchTasks(String query, int page, int size) {
+        validator.checkSearchValidity(query, page, size);
+
+        return searchIndex.search(query, page, size);
+    }
+
+    public TaskStatistics retrieveStatistics() {
+        return stats.snapshot(LocalDate.now());
+    }
+
+    @Transactional
+    public Task createTask(CreateTaskDto task) {
         Task createdTask = new Task();
+
+        if (shards.isEnabled()) {
+            validator.checkDueDateValidity(task.getDueDate());
+            createdTask.setId(ids.next());
+            titleRegistry.claim(task.getTitle(), createdTask.getId());
+            shards.route(createdTask.getId());
+        } else {
+            validator.checkTitleValidity(task.getTitle(), null);
+            validator.checkDueDateValidity(task.getDueDate());
+        }
+
         createdTask.setTitle(task.getTitle());
         createdTask.setDescription(task.getDescription());
         createdTask.setDueDate(task.getDueDate());
 
-        return repository.save(createdTask);
+        Task savedTask = repository.save(createdTask);
+        repository.flush();
+        titleCache.remember(savedTask);
+        stats.created(savedTask);
+        publish(TaskEventType.CREATED, savedTask.getId(), savedTask);
+
+        return savedTask;
     }
 
     public Task retrieveTask(String strId) {
         UUID id = validator.checkIdValidity(strId);
 
-        return repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+        return taskCache.get(id).orElseGet(() -> {
+            long stamp = taskCache.stamp(id);
+            Task task = readTemplate.execute(status -> {
+                shards.route(id);
+                replicaGuard.pinIfRecentlyWritten(id);
+
+                return repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+            });
+            taskCache.put(task, stamp);
+
+            return task;
+        });
+    }
+
+    public Task retrieveTaskIncludingArchived(String strId) {
+        UUID id = validator.checkIdValidity(strId);
+
+        return taskCache.get(id).orElseGet(() -> readTemplate.execute(status -> {
+            shards.route(id);
+            replicaGuard.pinIfRecentlyWritten(id);
+
+            return repository.findById(id)
+                .or(() -> archiveRepository.findById(id).map(ArchivedTask::toTask))
+                .orElseThrow(() -> new TaskNotFoundException(id));
+        }));
     }
 
+    @Transactional
     public Task updateTask(UpdateTaskDto updatedtask) {
         validator.checkIdValidity(updatedtask.getId().toString());
 
-        if (updatedtask.getTitle() != null) {
+        UUID id = updatedtask.getId();
+
+        if (shards.isEnabled()) {
+            shards.route(id);
+        } else if (updatedtask.getTitle() != null) {
             validator.checkTitleValidity(updatedtask.getTitle(), updatedtask.getId().toString());
         }
 
-        UUID id = updatedtask.getId();
-
         Task task = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
 
         if (task.getStatus() == TaskStatus.COMPLETE) {
             throw new TaskStatusException(String
                     .format("Task with ID: %s is marked as 'Complete' and can not be updated further", id.toString()));
         }
+
+        if (updatedtask.getVersion() != null && !updatedtask.getVersion().equals(task.getVersion())) {
+            throw new TaskVersionException(id, updatedtask.getVersion());
+        }
         // validator.checkDueDateValidity(updatedtask.getDueDate());
 
-        task.setTitle(Optional
-            .ofNullable(updatedtask.getTitle())
-            .orElse(task.getTitle()));
-        task.setDescription(Optional
-            .ofNullable(updatedtask.getDescription())
-            .orElse(task.getDescription()));
-        task.setStatus(Optional
-            .ofNullable(updatedtask.getStatus())
-            .orElse(task.getStatus()));
-        task.setDueDate(Optional
-            .ofNullable(updatedtask.getDueDate())
-            .orElse(task.getDueDate()));
+        String previousTitle = task.getTitle();
+        TaskStatus previousStatus = task.getStatus();
+        LocalDateTime previousDueDate = task.getDueDate();
+
+        if (shards.isEnabled()) {
+            reclaimTitle(updatedtask.getTitle(), id, previousTitle);
+        }
 
-        return repository.save(task);
+        applyUpdate(task, updatedtask);
+
+        Task savedTask = repository.save(task);
+        repository.flush();
+        taskCache.evict(id);
+
+        if (!Objects.equals(previousTitle, savedTask.getTitle())) {
+            titleCache.evict(previousTitle);
+        }
+        titleCache.remember(savedTask);
+        stats.changed(previousStatus, previousDueDate, savedTask.getStatus(), savedTask.getDueDate());
+        publish(TaskEventType.UPDATED, id, savedTask);
+
+        return savedTask;
     }
 
+    @Transactional
+    public void patchTask(UpdateTaskDto patchedTask) {
+        UUID id = patchedTask.getId();
+
+        if (shards.isEnabled()) {
+            shards.route(id);
+
+            if (patchedTask.getTitle() != null) {
+                reclaimTitle(patchedTask.getTitle(), id, repository.findTitleById(id).orElse(null));
+            }
+        } else if (patchedTask.getTitle() != null) {
+            validator.checkTitleValidity(patchedTask.getTitle(), id.toString());
+        }
+
+        if (repository.patch(patchedTask) == 0) {
+            Task task = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
+
+            if (task.getStatus() == TaskStatus.COMPLETE) {
+                throw new TaskStatusException(String
+                        .format("Task with ID: %s is marked as 'Complete' and can not be updated further", id.toString()));
+            }
+
+            if (patchedTask.getVersion() != null) {
+                throw new TaskVersionException(id, patchedTask.getVersion());
+            }
+
+            throw new OptimisticLockingFailureException(String.format("Task with ID: %s changed while it was patched", id));
+        }
+
+        taskCache.evict(id);
+
+        if (patchedTask.getTitle() != null) {
+            titleCache.forget(id);
+            titleCache.put(patchedTask.getTitle(), Optional.of(id));
+        }
+
+        if (patchedTask.getStatus() != null || patchedTask.getDueDate() != null) {
+            stats.patched();
+        }
+
+        publish(TaskEventType.UPDATED, id, null);
+    }
+
+    @Transactional
     public void deleteTask(String strId) {
         UUID id = validator.checkIdValidity(strId);
+        shards.route(id);
 
         Task task = repository.findById(id).orElseThrow(() -> new TaskNotFoundException(id));
 
@@ -94,5 +398,270 @@ class TaskService implements ITaskService {
         }
 
         repository.deleteById(id);
+        taskCache.evict(id);
+        titleCache.evict(task.getTitle());
+        stats.removed(task.getStatus(), task.getDueDate());
+
+        if (shards.isEnabled()) {
+            titleRegistry.releaseAfterCommit(task.getTitle(), id);
+        }
+        publish(TaskEventType.DELETED, id, null);
+    }
+
+    @Transactional
+    public List<TaskBatchResult> createTasks(List<CreateTaskDto> tasks) {
+        validator.checkBatchSizeValidity(tasks.size());
+
+        Map<String, UUID> takenTitles = shards.isEnabled()
+            ? Map.of()
+            : findTitleOwners(tasks.stream().map(CreateTaskDto::getTitle).toList());
+        Set<String> batchTitles = new HashSet<>();
+        TaskBatchResult[] results = new TaskBatchResult[tasks.size()];
+        Task[] createdTasks = new Task[tasks.size()];
+        List<Integer> created = new ArrayList<>(tasks.size());
+
+        for (int i = 0; i < tasks.size(); i++) {
+            CreateTaskDto task = tasks.get(i);
+
+            try {
+                if (takenTitles.containsKey(task.getTitle()) || !batchTitles.add(task.getTitle())) {
+                    throw new ValidationException("Task title must be unique");
+                }
+                validator.checkDueDateValidity(task.getDueDate());
+
+                Task createdTask = new Task();
+
+                if (shards.isEnabled()) {
+                    createdTask.setId(ids.next());
+                    titleRegistry.claim(task.getTitle(), createdTask.getId());
+                }
+
+                createdTask.setTitle(task.getTitle());
+                createdTask.setDescription(task.getDescription());
+                createdTask.setDueDate(task.getDueDate());
+                createdTasks[i] = createdTask;
+                created.add(i);
+            } catch (ValidationException ex) {
+                results[i] = TaskBatchResult.failure(i, null, ex);
+            }
+        }
+
+        shards.writeByShard(created, i -> createdTasks[i].getId(), group -> {
+            repository.saveAll(group.stream().map(i -> createdTasks[i]).toList());
+            repository.flush();
+
+            for (int i : group) {
+                titleCache.remember(createdTasks[i]);
+                stats.created(createdTasks[i]);
+                publish(TaskEventType.CREATED, createdTasks[i].getId(), createdTasks[i]);
+                results[i] = TaskBatchResult.success(i, createdTasks[i].getId(), HttpStatus.CREATED);
+            }
+        }, (group, ex) -> group.forEach(i -> {
+            titleRegistry.releaseAfterCommit(createdTasks[i].getTitle(), createdTasks[i].getId());
+            results[i] = TaskBatchResult.failure(i, null, ex);
+        }));
+
+        return List.of(results);
+    }
+
+    @Transactional
+    public List<TaskBatchResult> updateTasks(List<UpdateTaskDto> tasks) {
+        validator.checkBatchSizeValidity(tasks.size());
+
+        Set<String> batchTitles = new HashSet<>();
+        TaskBatchResult[] results = new TaskBatchResult[tasks.size()];
+
+        shards.writeByShard(IntStream.range(0, tasks.size()).boxed().toList(), i -> tasks.get(i).getId(),
+            group -> updateTaskGroup(tasks, group, batchTitles, results),
+            (group, ex) -> failSucceeded(results, group, i -> tasks.get(i).getId(), ex));
+
+        return List.of(results);
+    }
+
+    private void updateTaskGroup(List<UpdateTaskDto> tasks, List<Integer> group, Set<String> batchTitles,
+            TaskBatchResult[] results) {
+        Map<UUID, Task> foundTasks = repository
+            .findAllById(group.stream().map(i -> tasks.get(i).getId()).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Map<String, UUID> takenTitles = shards.isEnabled()
+            ? Map.of()
+            : findTitleOwners(group.stream()
+                .map(i -> tasks.get(i).getTitle())
+                .filter(Objects::nonNull)
+                .toList());
+        List<Task> updatedTasks = new ArrayList<>(group.size());
+
+        for (int i : group) {
+            UpdateTaskDto updatedTask = tasks.get(i);
+            UUID id = updatedTask.getId();
+
+            try {
+                Task task = foundTasks.get(id);
+
+                if (task == null) {
+                    throw new TaskNotFoundException(id);
+                }
+
+                String title = updatedTask.getTitle();
+
+                if (title != null && (!id.equals(takenTitles.getOrDefault(title, id)) || !batchTitles.add(title))) {
+                    throw new ValidationException("Task title must be unique");
+                }
+
+                if (task.getStatus() == TaskStatus.COMPLETE) {
+                    throw new TaskStatusException(String
+                            .format("Task with ID: %s is marked as 'Complete' and can not be updated further", id.toString()));
+                }
+
+                if (updatedTask.getVersion() != null && !updatedTask.getVersion().equals(task.getVersion())) {
+                    throw new TaskVersionException(id, updatedTask.getVersion());
+                }
+
+                String previousTitle = task.getTitle();
+                TaskStatus previousStatus = task.getStatus();
+                LocalDateTime previousDueDate = task.getDueDate();
+
+                if (shards.isEnabled()) {
+                    reclaimTitle(title, id, previousTitle);
+                }
+
+                applyUpdate(task, updatedTask);
+                updatedTasks.add(task);
+                stats.changed(previousStatus, previousDueDate, task.getStatus(), task.getDueDate());
+                taskCache.evict(id);
+
+                if (!Objects.equals(previousTitle, task.getTitle())) {
+                    titleCache.evict(previousTitle);
+                }
+                titleCache.remember(task);
+
+                results[i] = TaskBatchResult.success(i, id, HttpStatus.OK);
+            } catch (ValidationException | TaskNotFoundException | TaskStatusException | TaskVersionException ex) {
+                results[i] = TaskBatchResult.failure(i, id, ex);
+            }
+        }
+
+        repository.saveAll(updatedTasks);
+        repository.flush();
+        updatedTasks.forEach(task -> publish(TaskEventType.UPDATED, task.getId(), task));
+    }
+
+    @Transactional
+    public List<TaskBatchResult> deleteTasks(List<String> strIds) {
+        validator.checkBatchSizeValidity(strIds.size());
+
+        UUID[] ids = new UUID[strIds.size()];
+        TaskBatchResult[] results = new TaskBatchResult[strIds.size()];
+        List<Integer> valid = new ArrayList<>(strIds.size());
+
+        for (int i = 0; i < strIds.size(); i++) {
+            try {
+                ids[i] = validator.checkIdValidity(strIds.get(i));
+                valid.add(i);
+            } catch (ValidationException ex) {
+                results[i] = TaskBatchResult.failure(i, null, ex);
+            }
+        }
+
+        shards.writeByShard(valid, i -> ids[i],
+            group -> deleteTaskGroup(ids, group, results),
+            (group, ex) -> failSucceeded(results, group, i -> ids[i], ex));
+
+        return List.of(results);
+    }
+
+    private void deleteTaskGroup(UUID[] ids, List<Integer> group, TaskBatchResult[] results) {
+        Map<UUID, Task> foundTasks = repository
+            .findAllById(group.stream().map(i -> ids[i]).collect(Collectors.toSet()))
+            .stream()
+            .collect(Collectors.toMap(Task::getId, Function.identity()));
+        Set<UUID> deletedIds = new HashSet<>();
+
+        for (int i : group) {
+            UUID id = ids[i];
+            Task task = foundTasks.get(id);
+
+            if (task == null) {
+                results[i] = TaskBatchResult.failure(i, id, new TaskNotFoundException(id));
+            } else if (task.getStatus() == TaskStatus.ARCHIVED) {
+                results[i] = TaskBatchResult.failure(i, id, new TaskStatusException(
+                        String.format("Task with ID: %s is marked as 'Archived' and can not be deleted", id)));
+            } else {
+                deletedIds.add(id);
+                results[i] = TaskBatchResult.success(i, id, HttpStatus.NO_CONTENT);
+            }
+        }
+
+        if (!deletedIds.isEmpty()) {
+            repository.deleteAllByIdInBatch(deletedIds);
+            deletedIds.forEach(id -> {
+                Task task = foundTasks.get(id);
+                taskCache.evict(id);
+                titleCache.evict(task.getTitle());
+                stats.removed(task.getStatus(), task.getDueDate());
+
+                if (shards.isEnabled()) {
+                    titleRegistry.releaseAfterCommit(task.getTitle(), id);
+                }
+                publish(TaskEventType.DELETED, id, null);
+            });
+        }
+    }
+
+    private static void failSucceeded(TaskBatchResult[] results, List<Integer> group, Function<Integer, UUID> idOf,
+            RuntimeException ex) {
+        group.stream()
+            .filter(i -> results[i] == null || results[i].error() == null)
+            .forEach(i -> results[i] = TaskBatchResult.failure(i, idOf.apply(i), ex));
+    }
+
+    private void reclaimTitle(String title, UUID id, String previousTitle) {
+        if (title == null || title.equals(previousTitle)) {
+            return;
+        }
+
+        titleRegistry.claim(title, id);
+
+        if (previousTitle != null) {
+            titleRegistry.releaseAfterCommit(previousTitle, id);
+        }
+    }
+
+    private static <T> Comparator<T> pageOrder(TaskQuery query, Function<T, LocalDateTime> key, Function<T, UUID> id) {
+        Comparator<T> order = Comparator.comparing(key).thenComparing(id, TaskShards.ID_ORDER);
+
+        return query.direction() == Sort.Direction.ASC ? order : order.reversed();
+    }
+
+    private void publish(TaskEventType type, UUID id, Task task) {
+        outbox.record(type, id, task);
+        events.publish(type, id, task);
+    }
+
+    private Map<String, UUID> findTitleOwners(List<String> titles) {
+        if (titles.isEmpty()) {
+            return Map.of();
+        }
+
+        Map<String, UUID> owners = new HashMap<>();
+        repository.findByTitleIn(new HashSet<>(titles)).forEach(owner -> owners.put(owner.getTitle(), owner.getId()));
+
+        return owners;
+    }
+
+    private void applyUpdate(Task task, UpdateTaskDto updatedtask) {
+        task.setTitle(Optional
+            .ofNullable(updatedtask.getTitle())
+            .orElse(task.getTitle()));
+        task.setDescription(Optional
+            .ofNullable(updatedtask.getDescription())
+            .orElse(task.getDescription()));
+        task.setStatus(Optional
+            .ofNullable(updatedtask.getStatus())
+            .orElse(task.getStatus()));
+        task.setDueDate(Optional
+            .ofNullable(updatedtask.getDueDate())
+            .orElse(task.getDueDate()));
     }
 }
@@ -0,0 +1,98 @@
+package veronfc.task_manager_api;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@Configuration
+@ConditionalOnProperty(name = "tasks.sharding.enabled", havingValue = "true")
+class TaskShardConfig {
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariConfig shardPoolConfig(DataSourceProperties properties) {
+        HikariConfig config = new HikariConfig();
+        config.setDriverClassName(properties.determineDriverClassName());
+        config.setUsername(properties.determineUsername());
+        config.setPassword(properties.determinePassword());
+
+        return config;
+    }
+
+    @Bean
+    TaskShardedDataSource shardedDataSource(HikariConfig shardPoolConfig,
+            @Value("${tasks.sharding.urls}") List<String> urls) {
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("tasks.sharding.urls must list at least one shard");
+        }
+
+        Map<Object, Object> targets = new HashMap<>();
+        List<HikariDataSource> shards = new ArrayList<>();
+
+        for (int i = 0; i < urls.size(); i++) {
+            HikariConfig config = new HikariConfig();
+            shardPoolConfig.copyStateTo(config);
+            config.setJdbcUrl(urls.get(i));
+            config.setPoolName("shard-" + i);
+
+            HikariDataSource shard = new HikariDataSource(config);
+            targets.put(i, shard);
+            shards.add(shard);
+        }
+
+        TaskShardedDataSource shardedDataSource = new TaskShardedDataSource(shards);
+        shardedDataSource.setTargetDataSources(targets);
+        shardedDataSource.setDefaultTargetDataSource(shards.get(0));
+
+        return shardedDataSource;
+    }
+
+    @Bean
+    @Primary
+    DataSource dataSource(TaskShardedDataSource shardedDataSource) {
+        return new LazyConnectionDataSourceProxy(shardedDataSource);
+    }
+
+    @Bean
+    SmartInitializingSingleton shardInitializer(EntityManagerFactory entityManagerFactory, TaskShardRebalancer rebalancer,
+            @Value("${tasks.sharding.urls}") List<String> urls,
+            @Value("${tasks.sharding.initialize-schema:false}") boolean initializeSchema,
+            @Value("${tasks.sharding.rebalance:false}") boolean rebalance) {
+        return () -> {
+            if (initializeSchema) {
+                for (int shard = 1; shard < urls.size(); shard++) {
+                    TransactionSynchronizationManager.bindResource(TaskShards.ROUTE, shard);
+
+                    try {
+                        entityManagerFactory.unwrap(SessionFactory.class).getSchemaManager().exportMappedObjects(true);
+                    } finally {
+                        TransactionSynchronizationManager.unbindResource(TaskShards.ROUTE);
+                    }
+                }
+            }
+
+            if (rebalance) {
+                rebalancer.rebalance();
+            }
+        };
+    }
+}
@@ -0,0 +1,175 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+
+@Component
+@ConditionalOnProperty(name = "tasks.sharding.enabled", havingValue = "true")
+class TaskShardRebalancer {
+    private static final Logger log = LoggerFactory.getLogger(TaskShardRebalancer.class);
+
+    private final EntityManager entityManager;
+    private final TaskShards shards;
+    private final int chunkSize;
+
+    TaskShardRebalancer(EntityManager entityManager, TaskShards shards,
+            @Value("${tasks.sharding.rebalance-chunk-size:1000}") int chunkSize) {
+        this.entityManager = entityManager;
+        this.shards = shards;
+        this.chunkSize = chunkSize;
+    }
+
+    int rebalance() {
+        int moved = 0;
+
+        for (int shard = 0; shard < shards.count(); shard++) {
+            moved += move(shard, "Task", shards::shardOf, this::copyTasks);
+            moved += move(shard, "ArchivedTask", shards::shardOf, this::copyArchivedTasks);
+            moved += moveTitleClaims(shard);
+        }
+
+        if (moved > 0) {
+            log.info("Moved {} rows to the task shards they hash to", moved);
+        }
+
+        return moved;
+    }
+
+    private int move(int shard, String entity, Function<UUID, Integer> owner, Copier copier) {
+        int moved = 0;
+        UUID after = null;
+
+        while (true) {
+            UUID from = after;
+            List<UUID> ids = shards.inTransaction(shard, true, () -> (from == null
+                ? entityManager.createQuery("select e.id from " + entity + " e order by e.id", UUID.class)
+                : entityManager.createQuery("select e.id from " + entity + " e where e.id > :after order by e.id", UUID.class)
+                    .setParameter("after", from))
+                .setMaxResults(chunkSize)
+                .getResultList());
+
+            if (ids.isEmpty()) {
+                return moved;
+            }
+
+            Map<Integer, List<UUID>> misplaced = ids.stream()
+                .filter(id -> owner.apply(id) != shard)
+                .collect(Collectors.groupingBy(owner));
+
+            misplaced.forEach((target, targetIds) -> {
+                copier.copy(shard, target, targetIds);
+                shards.inTransaction(shard, false, () -> entityManager
+                    .createQuery("delete from " + entity + " e where e.id in :ids")
+                    .setParameter("ids", targetIds)
+                    .executeUpdate());
+            });
+
+            moved += misplaced.values().stream().mapToInt(List::size).sum();
+            after = ids.get(ids.size() - 1);
+
+            if (ids.size() < chunkSize) {
+                return moved;
+            }
+        }
+    }
+
+    private void copyTasks(int source, int target, List<UUID> ids) {
+        List<Task> tasks = shards.inTransaction(source, true, () -> entityManager
+            .createQuery("select t from Task t where t.id in :ids", Task.class)
+            .setParameter("ids", ids)
+            .getResultList());
+
+        shards.inTransaction(target, false, () -> {
+            List<UUID> present = entityManager.createQuery("select t.id from Task t where t.id in :ids", UUID.class)
+                .setParameter("ids", ids)
+                .getResultList();
+
+            tasks.stream()
+                .filter(task -> !present.contains(task.getId()))
+                .forEach(task -> entityManager.createQuery("""
+                        insert into Task (id, title, description, status, dueDate, createdAt, updatedAt, version)
+                        values (:id, :title, :description, :status, :dueDate, :createdAt, :updatedAt, :version)""")
+                    .setParameter("id", task.getId())
+                    .setParameter("title", task.getTitle())
+                    .setParameter("description", task.getDescription())
+                    .setParameter("status", task.getStatus())
+                    .setParameter("dueDate", task.getDueDate())
+                    .setParameter("createdAt", task.getCreatedAt())
+                    .setParameter("updatedAt", task.getUpdatedAt())
+                    .setParameter("version", task.getVersion())
+                    .executeUpdate());
+
+            return null;
+        });
+    }
+
+    private void copyArchivedTasks(int source, int target, List<UUID> ids) {
+        List<ArchivedTask> archived = shards.inTransaction(source, true, () -> entityManager
+            .createQuery("select a from ArchivedTask a where a.id in :ids", ArchivedTask.class)
+            .setParameter("ids", ids)
+            .getResultList());
+
+        shards.inTransaction(target, false, () -> {
+            archived.forEach(entityManager::merge);
+            return null;
+        });
+    }
+
+    private int moveTitleClaims(int shard) {
+        int moved = 0;
+        String after = null;
+
+        while (true) {
+            String from = after;
+            List<TaskTitleClaim> claims = shards.inTransaction(shard, true, () -> (from == null
+                ? entityManager.createQuery("select c from TaskTitleClaim c order by c.title", TaskTitleClaim.class)
+                : entityManager.createQuery("select c from TaskTitleClaim c where c.title > :after order by c.title",
+                        TaskTitleClaim.class)
+                    .setParameter("after", from))
+                .setMaxResults(chunkSize)
+                .getResultList());
+
+            if (claims.isEmpty()) {
+                return moved;
+            }
+
+            Map<Integer, List<TaskTitleClaim>> misplaced = claims.stream()
+                .filter(claim -> shards.shardOf(claim.getTitle()) != shard)
+                .collect(Collectors.groupingBy(claim -> shards.shardOf(claim.getTitle())));
+
+            misplaced.forEach((target, targetClaims) -> {
+                shards.inTransaction(target, false, () -> {
+                    targetClaims.forEach(entityManager::merge);
+                    return null;
+                });
+                shards.inTransaction(shard, false, () -> entityManager
+                    .createQuery("delete from TaskTitleClaim c where c.title in :titles")
+                    .setParameter("titles", targetClaims.stream().map(TaskTitleClaim::getTitle).toList())
+                    .executeUpdate());
+            });
+
+            moved += misplaced.values().stream().mapToInt(List::size).sum();
+            after = claims.get(claims.size() - 1).getTitle();
+
+            if (claims.size() < chunkSize) {
+                return moved;
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface Copier {
+        void copy(int source, int target, List<UUID> ids);
+    }
+}
@@ -0,0 +1,71 @@
+package veronfc.task_manager_api;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+
+class TaskShardRing {
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final NavigableMap<Long, Integer> ring = new TreeMap<>();
+    private final int shards;
+
+    TaskShardRing(int shards, int virtualNodes) {
+        if (shards < 1) {
+            throw new IllegalArgumentException("Task shard ring needs at least one shard");
+        }
+        if (virtualNodes < 1) {
+            throw new IllegalArgumentException("Task shard ring needs at least one virtual node per shard");
+        }
+
+        this.shards = shards;
+
+        for (int shard = 0; shard < shards; shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                ring.putIfAbsent(hash("shard-" + shard + "#" + node), shard);
+            }
+        }
+    }
+
+    int size() {
+        return shards;
+    }
+
+    int shardOf(UUID id) {
+        return locate(mix(id.getMostSignificantBits() ^ mix(id.getLeastSignificantBits())));
+    }
+
+    int shardOf(String key) {
+        return locate(hash(key));
+    }
+
+    private int locate(long hash) {
+        Map.Entry<Long, Integer> node = ring.ceilingEntry(hash);
+
+        return (node != null ? node : ring.firstEntry()).getValue();
+    }
+
+    private static long hash(String key) {
+        long hash = FNV_OFFSET;
+
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xff;
+            hash *= FNV_PRIME;
+        }
+
+        return mix(hash);
+    }
+
+    private static long mix(long hash) {
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+
+        return hash;
+    }
+}
@@ -0,0 +1,28 @@
+package veronfc.task_manager_api;
+
+import java.util.List;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+class TaskShardedDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    private final List<HikariDataSource> shards;
+
+    TaskShardedDataSource(List<HikariDataSource> shards) {
+        this.shards = shards;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Object shard = TransactionSynchronizationManager.getResource(TaskShards.ROUTE);
+
+        return shard == null ? 0 : shard;
+    }
+
+    @Override
+    public void close() {
+        shards.forEach(HikariDataSource::close);
+    }
+}
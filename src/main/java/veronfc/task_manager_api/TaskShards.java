@@ -0,0 +1,268 @@
+package veronfc.task_manager_api;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Component
+class TaskShards {
+    static final Object ROUTE = TaskShards.class;
+
+    static final Comparator<UUID> ID_ORDER = (first, second) -> {
+        int high = Long.compareUnsigned(first.getMostSignificantBits(), second.getMostSignificantBits());
+
+        return high != 0 ? high : Long.compareUnsigned(first.getLeastSignificantBits(), second.getLeastSignificantBits());
+    };
+
+    private final TaskShardRing ring;
+    private final TransactionTemplate readTemplate;
+    private final TransactionTemplate writeTemplate;
+
+    TaskShards(PlatformTransactionManager transactionManager,
+            @Value("${tasks.sharding.enabled:false}") boolean enabled,
+            @Value("${tasks.sharding.urls:}") List<String> urls,
+            @Value("${tasks.sharding.virtual-nodes:128}") int virtualNodes) {
+        this.ring = enabled ? new TaskShardRing(urls.size(), virtualNodes) : null;
+        this.readTemplate = new TransactionTemplate(transactionManager);
+        this.readTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readTemplate.setReadOnly(true);
+        this.writeTemplate = new TransactionTemplate(transactionManager);
+        this.writeTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    boolean isEnabled() {
+        return ring != null;
+    }
+
+    int count() {
+        return ring == null ? 1 : ring.size();
+    }
+
+    int shardOf(UUID id) {
+        return ring == null ? 0 : ring.shardOf(id);
+    }
+
+    int shardOf(String key) {
+        return ring == null ? 0 : ring.shardOf(key);
+    }
+
+    void route(UUID id) {
+        if (ring == null) {
+            return;
+        }
+
+        int shard = ring.shardOf(id);
+        Object routed = TransactionSynchronizationManager.getResource(ROUTE);
+
+        if (routed != null) {
+            if (!routed.equals(shard)) {
+                throw new IllegalStateException(String.format(
+                    "Transaction is already routed to task shard %s and can not move to shard %d", routed, shard));
+            }
+            return;
+        }
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            throw new IllegalStateException("Routing task " + id + " to its shard requires a transaction");
+        }
+
+        TransactionSynchronizationManager.bindResource(ROUTE, shard);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE);
+            }
+        });
+    }
+
+    void forEachShard(IntConsumer action) {
+        for (int shard = 0; shard < count(); shard++) {
+            int current = shard;
+
+            onShard(shard, () -> {
+                action.accept(current);
+                return null;
+            });
+        }
+    }
+
+    <T> T inTransaction(int shard, boolean readOnly, Supplier<T> action) {
+        TransactionTemplate template = readOnly ? readTemplate : writeTemplate;
+
+        return onShard(shard, () -> template.execute(status -> action.get()));
+    }
+
+    <T> void writeByShard(List<T> items, Function<T, UUID> idOf, Consumer<List<T>> write,
+            BiConsumer<List<T>, RuntimeException> failed) {
+        if (ring == null) {
+            write.accept(items);
+            return;
+        }
+
+        Map<Integer, List<T>> groups = items.stream()
+            .collect(Collectors.groupingBy(item -> ring.shardOf(idOf.apply(item)), TreeMap::new, Collectors.toList()));
+
+        groups.forEach((shard, group) -> {
+            try {
+                inTransaction(shard, false, () -> {
+                    write.accept(group);
+                    return null;
+                });
+            } catch (RuntimeException ex) {
+                failed.accept(group, ex);
+            }
+        });
+    }
+
+    <T> List<T> gather(Supplier<List<T>> query, Comparator<? super T> order) {
+        if (ring == null) {
+            return query.get();
+        }
+
+        List<List<T>> parts = new ArrayList<>(count());
+
+        for (int shard = 0; shard < count(); shard++) {
+            parts.add(inTransaction(shard, true, query));
+        }
+
+        return merge(parts, order);
+    }
+
+    <T> Optional<T> findFirst(Supplier<Optional<T>> query) {
+        if (ring == null) {
+            return query.get();
+        }
+
+        for (int shard = 0; shard < count(); shard++) {
+            Optional<T> found = inTransaction(shard, true, query);
+
+            if (found.isPresent()) {
+                return found;
+            }
+        }
+
+        return Optional.empty();
+    }
+
+    <T> void forEachMerged(BiFunction<T, Integer, List<T>> page, int chunkSize, Comparator<? super T> order,
+            Consumer<? super T> action) {
+        List<Iterator<T>> cursors = new ArrayList<>(count());
+
+        for (int shard = 0; shard < count(); shard++) {
+            cursors.add(new ShardCursor<>(shard, page, chunkSize));
+        }
+
+        merge(cursors, order, action);
+    }
+
+    static <T> List<T> merge(List<List<T>> parts, Comparator<? super T> order) {
+        List<T> merged = new ArrayList<>(parts.stream().mapToInt(List::size).sum());
+
+        if (order == null) {
+            parts.forEach(merged::addAll);
+            return merged;
+        }
+
+        merge(parts.stream().map(List::iterator).toList(), order, merged::add);
+
+        return merged;
+    }
+
+    private static <T> void merge(List<Iterator<T>> parts, Comparator<? super T> order, Consumer<? super T> action) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>(Math.max(1, parts.size()),
+            (first, second) -> order.compare(first.value(), second.value()));
+
+        parts.forEach(part -> Head.of(part).ifPresent(heads::add));
+
+        while (!heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            action.accept(head.value());
+            Head.of(head.rest()).ifPresent(heads::add);
+        }
+    }
+
+    private <T> T onShard(int shard, Supplier<T> action) {
+        if (ring == null) {
+            return action.get();
+        }
+
+        Object previous = TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE);
+        TransactionSynchronizationManager.bindResource(ROUTE, shard);
+
+        try {
+            return action.get();
+        } finally {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ROUTE);
+
+            if (previous != null) {
+                TransactionSynchronizationManager.bindResource(ROUTE, previous);
+            }
+        }
+    }
+
+    private final class ShardCursor<T> implements Iterator<T> {
+        private final int shard;
+        private final BiFunction<T, Integer, List<T>> page;
+        private final int chunkSize;
+        private Iterator<T> chunk = Collections.emptyIterator();
+        private T last;
+        private boolean exhausted;
+
+        private ShardCursor(int shard, BiFunction<T, Integer, List<T>> page, int chunkSize) {
+            this.shard = shard;
+            this.page = page;
+            this.chunkSize = chunkSize;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!chunk.hasNext() && !exhausted) {
+                List<T> next = inTransaction(shard, true, () -> page.apply(last, chunkSize));
+                exhausted = next.size() < chunkSize;
+                chunk = next.iterator();
+            }
+
+            return chunk.hasNext();
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+
+            last = chunk.next();
+
+            return last;
+        }
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+        static <T> Optional<Head<T>> of(Iterator<T> iterator) {
+            return iterator.hasNext() ? Optional.of(new Head<>(iterator.next(), iterator)) : Optional.empty();
+        }
+    }
+}
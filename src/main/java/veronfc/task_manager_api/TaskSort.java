@@ -0,0 +1,35 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+
+enum TaskSort {
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt"),
+    DUE_DATE("dueDate");
+
+    private final String property;
+
+    TaskSort(String property) {
+        this.property = property;
+    }
+
+    String property() {
+        return property;
+    }
+
+    LocalDateTime keyOf(Task task) {
+        return switch (this) {
+            case CREATED_AT -> task.getCreatedAt();
+            case UPDATED_AT -> task.getUpdatedAt();
+            case DUE_DATE -> task.getDueDate();
+        };
+    }
+
+    LocalDateTime keyOf(TaskSummary summary) {
+        return switch (this) {
+            case CREATED_AT -> summary.createdAt();
+            case UPDATED_AT -> summary.updatedAt();
+            case DUE_DATE -> summary.dueDate();
+        };
+    }
+}
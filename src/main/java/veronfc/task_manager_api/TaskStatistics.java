@@ -0,0 +1,13 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+record TaskStatistics(
+    long total,
+    Map<TaskStatus, Long> byStatus,
+    long overdue,
+    long dueToday,
+    long dueThisWeek,
+    LocalDateTime reconciledAt) {
+}
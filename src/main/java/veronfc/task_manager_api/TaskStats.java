@@ -0,0 +1,199 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+class TaskStats {
+    private static final Logger log = LoggerFactory.getLogger(TaskStats.class);
+
+    private static final Set<TaskStatus> OPEN = Set.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS);
+    private static final int DAYS_PER_WEEK = 7;
+
+    private final TaskRepository repository;
+    private final TaskShards shards;
+    private final Object reconciling = new Object();
+    private volatile Counts counts = new Counts();
+    private volatile LocalDateTime reconciledAt;
+    private volatile boolean stale;
+    private List<Consumer<Counts>> replay;
+
+    TaskStats(TaskRepository repository, TaskShards shards) {
+        this.repository = repository;
+        this.shards = shards;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    void rebuild() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${tasks.stats.reconcile-interval:15m}",
+            initialDelayString = "${tasks.stats.reconcile-interval:15m}")
+    void reconcile() {
+        synchronized (reconciling) {
+            Counts loaded = new Counts();
+            long drift;
+
+            synchronized (this) {
+                replay = new ArrayList<>();
+            }
+
+            try {
+                shards.gather(repository::countGroupedByStatus, null)
+                    .forEach(count -> loaded.byStatus.get(count.status()).add(count.count()));
+                shards.gather(() -> repository.countDueDaysByStatusIn(OPEN), null)
+                    .forEach(count -> loaded.dueDay(count.day()).add(count.count()));
+            } catch (RuntimeException ex) {
+                synchronized (this) {
+                    replay = null;
+                }
+                throw ex;
+            }
+
+            synchronized (this) {
+                stale = false;
+                replay.forEach(change -> change.accept(loaded));
+                drift = counts.drift(loaded);
+                counts = loaded;
+                replay = null;
+            }
+
+            reconciledAt = LocalDateTime.now();
+
+            if (drift != 0) {
+                log.debug("Task statistics were off by {} tasks and have been reconciled", drift);
+            }
+        }
+    }
+
+    TaskStatistics snapshot(LocalDate today) {
+        if (stale) {
+            reconcile();
+        }
+
+        Counts current = counts;
+        Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+        long total = 0;
+
+        for (Map.Entry<TaskStatus, LongAdder> status : current.byStatus.entrySet()) {
+            long count = status.getValue().sum();
+            byStatus.put(status.getKey(), count);
+            total += count;
+        }
+
+        return new TaskStatistics(total, byStatus,
+            sum(current.openByDueDay.headMap(today).values()),
+            sum(current.openByDueDay.subMap(today, true, today, true).values()),
+            sum(current.openByDueDay.subMap(today, true, today.plusDays(DAYS_PER_WEEK), false).values()),
+            reconciledAt);
+    }
+
+    void created(Task task) {
+        afterCommit(target -> target.add(task.getStatus(), task.getDueDate(), 1));
+    }
+
+    void changed(TaskStatus previousStatus, LocalDateTime previousDueDate, TaskStatus status, LocalDateTime dueDate) {
+        if (previousStatus == status && (!OPEN.contains(status) || sameDay(previousDueDate, dueDate))) {
+            return;
+        }
+
+        afterCommit(target -> {
+            target.add(previousStatus, previousDueDate, -1);
+            target.add(status, dueDate, 1);
+        });
+    }
+
+    void patched() {
+        afterCommit(target -> stale = true);
+    }
+
+    void removed(TaskStatus status, LocalDateTime dueDate) {
+        afterCommit(target -> target.add(status, dueDate, -1));
+    }
+
+    void archived(List<TaskStatusCount> archived) {
+        afterCommit(target -> archived.forEach(count -> target.byStatus.get(count.status()).add(-count.count())));
+    }
+
+    private void afterCommit(Consumer<Counts> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(change);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+        });
+    }
+
+    private synchronized void apply(Consumer<Counts> change) {
+        change.accept(counts);
+
+        if (replay != null) {
+            replay.add(change);
+        }
+    }
+
+    private static boolean sameDay(LocalDateTime first, LocalDateTime second) {
+        return first == null ? second == null : second != null && first.toLocalDate().equals(second.toLocalDate());
+    }
+
+    private static long sum(Collection<LongAdder> counters) {
+        return counters.stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static final class Counts {
+        private final Map<TaskStatus, LongAdder> byStatus = new EnumMap<>(TaskStatus.class);
+        private final ConcurrentSkipListMap<LocalDate, LongAdder> openByDueDay = new ConcurrentSkipListMap<>();
+
+        private Counts() {
+            for (TaskStatus status : TaskStatus.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+
+        private void add(TaskStatus status, LocalDateTime dueDate, long delta) {
+            byStatus.get(status).add(delta);
+
+            if (OPEN.contains(status) && dueDate != null) {
+                dueDay(dueDate.toLocalDate()).add(delta);
+            }
+        }
+
+        private LongAdder dueDay(LocalDate day) {
+            return openByDueDay.computeIfAbsent(day, key -> new LongAdder());
+        }
+
+        private long drift(Counts actual) {
+            long drift = 0;
+
+            for (TaskStatus status : TaskStatus.values()) {
+                drift += Math.abs(byStatus.get(status).sum() - actual.byStatus.get(status).sum());
+            }
+
+            return drift;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package veronfc.task_manager_api;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+record TaskSummary(
+    UUID id,
+    String title,
+    TaskStatus status,
+    LocalDateTime dueDate,
+    LocalDateTime createdAt,
+    LocalDateTime updatedAt) {
+
+    static TaskSummary of(Task task) {
+        return new TaskSummary(task.getId(), task.getTitle(), task.getStatus(), task.getDueDate(),
+            task.getCreatedAt(), task.getUpdatedAt());
+    }
+}
@@ -0,0 +1,9 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+interface TaskTitle {
+    UUID getId();
+
+    String getTitle();
+}
@@ -0,0 +1,70 @@
+package veronfc.task_manager_api;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@Component
+class TaskTitleCache {
+    private final Map<String, Optional<UUID>> titles;
+
+    TaskTitleCache(@Value("${tasks.title-cache.max-size:10000}") int maxSize) {
+        this.titles = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Optional<UUID>> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    Optional<UUID> get(String title) {
+        return titles.get(title);
+    }
+
+    void put(String title, Optional<UUID> id) {
+        afterCommit(() -> titles.put(title, id));
+    }
+
+    void remember(Task task) {
+        put(task.getTitle(), Optional.of(task.getId()));
+    }
+
+    void forget(UUID id) {
+        Optional<UUID> owner = Optional.of(id);
+
+        forgetOwner(owner);
+        afterCommit(() -> forgetOwner(owner));
+    }
+
+    void evict(String title) {
+        titles.remove(title);
+        afterCommit(() -> titles.remove(title));
+    }
+
+    private void forgetOwner(Optional<UUID> owner) {
+        synchronized (titles) {
+            titles.values().removeIf(owner::equals);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
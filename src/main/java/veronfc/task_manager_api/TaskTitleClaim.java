@@ -0,0 +1,30 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Entity
+@Table(name = "task_title_claim", indexes = {
+    @Index(name = "idx_task_title_claim_task_id", columnList = "taskId")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+class TaskTitleClaim {
+    @Id
+    @Column(length = 255)
+    private String title;
+
+    @Column(nullable = false)
+    private UUID taskId;
+}
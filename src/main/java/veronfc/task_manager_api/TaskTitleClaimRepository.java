@@ -0,0 +1,19 @@
+package veronfc.task_manager_api;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+interface TaskTitleClaimRepository extends JpaRepository<TaskTitleClaim, String> {
+    @Modifying
+    @Query("delete from TaskTitleClaim c where c.title = :title and c.taskId = :taskId")
+    int deleteClaim(@Param("title") String title, @Param("taskId") UUID taskId);
+
+    @Modifying
+    @Query("delete from TaskTitleClaim c where c.taskId in :taskIds")
+    int deleteClaims(@Param("taskIds") Collection<UUID> taskIds);
+}
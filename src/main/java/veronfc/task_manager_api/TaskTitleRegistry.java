@@ -0,0 +1,91 @@
+package veronfc.task_manager_api;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ValidationException;
+
+@Component
+class TaskTitleRegistry {
+    private final TaskTitleClaimRepository repository;
+    private final TaskShards shards;
+    private final EntityManager entityManager;
+
+    TaskTitleRegistry(TaskTitleClaimRepository repository, TaskShards shards, EntityManager entityManager) {
+        this.repository = repository;
+        this.shards = shards;
+        this.entityManager = entityManager;
+    }
+
+    void claim(String title, UUID taskId) {
+        Boolean claimed;
+
+        try {
+            claimed = shards.inTransaction(shards.shardOf(title), false, () -> {
+                TaskTitleClaim claim = repository.findById(title).orElse(null);
+
+                if (claim != null) {
+                    if (!claim.getTaskId().equals(taskId)) {
+                        throw new ValidationException("Task title must be unique");
+                    }
+                    return false;
+                }
+
+                entityManager.persist(new TaskTitleClaim(title, taskId));
+                entityManager.flush();
+
+                return true;
+            });
+        } catch (PersistenceException | DataIntegrityViolationException ex) {
+            throw new ValidationException("Task title must be unique");
+        }
+
+        if (Boolean.TRUE.equals(claimed)) {
+            afterCompletion(false, () -> release(title, taskId));
+        }
+    }
+
+    void releaseAfterCommit(String title, UUID taskId) {
+        afterCompletion(true, () -> release(title, taskId));
+    }
+
+    void releaseAllAfterCommit(List<UUID> taskIds) {
+        afterCompletion(true, () -> releaseAll(taskIds));
+    }
+
+    private void release(String title, UUID taskId) {
+        shards.inTransaction(shards.shardOf(title), false, () -> repository.deleteClaim(title, taskId));
+    }
+
+    private void releaseAll(Collection<UUID> taskIds) {
+        for (int shard = 0; shard < shards.count(); shard++) {
+            shards.inTransaction(shard, false, () -> repository.deleteClaims(taskIds));
+        }
+    }
+
+    private void afterCompletion(boolean committed, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (committed) {
+                action.run();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if ((status == STATUS_COMMITTED) == committed) {
+                    action.run();
+                }
+            }
+        });
+    }
+}
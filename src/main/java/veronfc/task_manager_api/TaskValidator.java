@@ -1,20 +1,31 @@
 package veronfc.task_manager_api;
 
+import java.time.DateTimeException;
 import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
 import org.springframework.stereotype.Component;
 
+import io.micrometer.core.annotation.Timed;
+
 import jakarta.validation.ValidationException;
 
 @Component
+@Timed("tasks.validator")
 class TaskValidator {
+    static final int MAX_PAGE_SIZE = 1000;
+    static final int MAX_BATCH_SIZE = 1000;
+    static final int MAX_SEARCH_WINDOW = 10000;
+
     private final TaskRepository repository;
+    private final TaskTitleCache titleCache;
 
-    TaskValidator(TaskRepository repository) {
+    TaskValidator(TaskRepository repository, TaskTitleCache titleCache) {
         this.repository = repository;
+        this.titleCache = titleCache;
     }
 
     public UUID checkIdValidity(String strId) {
@@ -30,14 +41,47 @@ class TaskValidator {
     }
 
     public void checkTitleValidity(String title, String strId) {
-        Task foundTask;
+        Optional<UUID> foundId = titleCache.get(title);
 
-        foundTask = repository.findByTitle(title).orElse(null);
+        if (foundId == null) {
+            foundId = repository.findByTitle(title).map(Task::getId);
+            titleCache.put(title, foundId);
+        }
 
-        if (foundTask != null) {
-            if (strId == null || !foundTask.getId().equals(UUID.fromString(strId))) {
-                throw new ValidationException("Task title must be unique");
-            }
+        if (isTakenByAnotherTask(foundId, strId)) {
+            throw new ValidationException("Task title must be unique");
+        }
+    }
+
+    public TaskCursor checkCursorValidity(String cursor) {
+        try {
+            return TaskCursor.decode(cursor);
+        } catch (IllegalArgumentException | DateTimeException ex) {
+            throw new ValidationException("Task cursor is invalid");
+        }
+    }
+
+    public void checkPageSizeValidity(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException(String.format("Page size must be between 1 and %d", MAX_PAGE_SIZE));
+        }
+    }
+
+    public void checkSearchValidity(String query, int page, int size) {
+        if (query == null || query.isBlank()) {
+            throw new ValidationException("Search query must not be empty");
+        }
+
+        checkPageSizeValidity(size);
+
+        if (page < 0 || ((long) page + 1) * size > MAX_SEARCH_WINDOW) {
+            throw new ValidationException(String.format("Search results are limited to the first %d hits", MAX_SEARCH_WINDOW));
+        }
+    }
+
+    public void checkBatchSizeValidity(int size) {
+        if (size < 1 || size > MAX_BATCH_SIZE) {
+            throw new ValidationException(String.format("Batch size must be between 1 and %d", MAX_BATCH_SIZE));
         }
     }
 
@@ -46,4 +90,8 @@ class TaskValidator {
             throw new ValidationException("Task due date must be at least 12 hours in the future");
         }
     }
+
+    private boolean isTakenByAnotherTask(Optional<UUID> foundId, String strId) {
+        return foundId.isPresent() && (strId == null || !foundId.get().equals(UUID.fromString(strId)));
+    }
 }
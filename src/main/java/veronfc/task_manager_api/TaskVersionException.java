@@ -0,0 +1,9 @@
+package veronfc.task_manager_api;
+
+import java.util.UUID;
+
+class TaskVersionException extends RuntimeException{
+    TaskVersionException(UUID id, Long version) {
+        super(String.format("Task with ID: %s is no longer at version %d", id, version));
+    }
+}
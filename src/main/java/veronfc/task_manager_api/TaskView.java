@@ -0,0 +1,6 @@
+package veronfc.task_manager_api;
+
+enum TaskView {
+    FULL,
+    SUMMARY
+}
@@ -0,0 +1,37 @@
+package veronfc.task_manager_api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+class TokenBucket {
+    private static final double NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final long capacity;
+    private final double refillPerSecond;
+    private final AtomicReference<State> state;
+
+    TokenBucket(long capacity, double refillPerSecond, long now) {
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.state = new AtomicReference<>(new State(capacity, now));
+    }
+
+    long tryAcquire(long now) {
+        while (true) {
+            State current = state.get();
+            long elapsed = Math.max(0, now - current.refilledAt());
+            double tokens = Math.min(capacity, current.tokens() + elapsed * refillPerSecond / NANOS_PER_SECOND);
+
+            if (tokens < 1) {
+                return (long) Math.ceil((1 - tokens) * NANOS_PER_SECOND / refillPerSecond);
+            }
+
+            if (state.compareAndSet(current, new State(tokens - 1, current.refilledAt() + elapsed))) {
+                return 0;
+            }
+        }
+    }
+
+    private record State(double tokens, long refilledAt) {
+    }
+}
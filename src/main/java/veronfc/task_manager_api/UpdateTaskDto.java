@@ -34,6 +34,8 @@ class UpdateTaskDto {
     @Future(message = "Task due date must not be in the past or present")
     private LocalDateTime dueDate;
 
+    private Long version;
+
     UpdateTaskDto(UUID id) {
         this.id = id;
     }
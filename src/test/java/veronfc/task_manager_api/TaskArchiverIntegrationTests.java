@@ -0,0 +1,77 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+@Rollback
+class TaskArchiverIntegrationTests {
+    @Autowired
+    private TaskArchiver archiver;
+
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private TaskArchiveRepository archiveRepository;
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void archive_movesArchivedAndLongCompleteTasksToArchiveTable() {
+        UUID archived = save("Archived task", TaskStatus.ARCHIVED);
+        UUID longComplete = save("Long complete task", TaskStatus.COMPLETE);
+        UUID recentlyComplete = save("Recently complete task", TaskStatus.COMPLETE);
+        UUID inProgress = save("In progress task", TaskStatus.IN_PROGRESS);
+
+        jdbcTemplate.update("update task set updated_at = ? where id = ?", LocalDateTime.now().minusDays(90), longComplete);
+
+        archiver.archive();
+
+        assertTrue(repository.findById(archived).isEmpty());
+        assertTrue(repository.findById(longComplete).isEmpty());
+        assertTrue(repository.findById(recentlyComplete).isPresent());
+        assertTrue(repository.findById(inProgress).isPresent());
+        assertTrue(archiveRepository.existsById(archived));
+        assertTrue(archiveRepository.existsById(longComplete));
+    }
+
+    @Test
+    void retrieveIncludingArchived_unionsHotAndArchivedTasks() {
+        UUID archived = save("Archived and still readable", TaskStatus.ARCHIVED);
+        UUID hot = save("Still hot", TaskStatus.BACKLOG);
+
+        archiver.archive();
+
+        assertEquals(archived, service.retrieveTaskIncludingArchived(archived.toString()).getId());
+
+        List<UUID> ids = service.retrieveAllTasksIncludingArchived().stream().map(Task::getId).toList();
+
+        assertTrue(ids.containsAll(List.of(archived, hot)));
+    }
+
+    private UUID save(String title, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setStatus(status);
+        task.setDueDate(LocalDateTime.now().plusDays(2));
+
+        return repository.saveAndFlush(task).getId();
+    }
+}
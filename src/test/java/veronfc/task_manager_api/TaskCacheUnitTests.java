@@ -0,0 +1,53 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TaskCacheUnitTests {
+    private TaskCache cache;
+
+    @BeforeEach
+    void createCache() {
+        cache = new TaskCache(new TaskCacheConfig().cacheManager(100, Duration.ofMinutes(10)));
+    }
+
+    @Test
+    void put_skipsLoadedTask_whenTaskWasEvictedDuringLoad() {
+        UUID id = UUID.randomUUID();
+        long stamp = cache.stamp(id);
+
+        cache.evict(id);
+        cache.put(task(id, 1L), stamp);
+
+        assertTrue(cache.get(id).isEmpty());
+
+        cache.put(task(id, 2L), cache.stamp(id));
+
+        assertEquals(Optional.of(2L), cache.get(id).map(Task::getVersion));
+    }
+
+    @Test
+    void put_keepsCachedTask_whenLoadedTaskIsOlder() {
+        UUID id = UUID.randomUUID();
+
+        cache.put(task(id, 3L), cache.stamp(id));
+        cache.put(task(id, 2L), cache.stamp(id));
+
+        assertEquals(Optional.of(3L), cache.get(id).map(Task::getVersion));
+    }
+
+    private static Task task(UUID id, long version) {
+        Task task = new Task();
+        task.setId(id);
+        task.setVersion(version);
+
+        return task;
+    }
+}
@@ -1,20 +1,29 @@
 package veronfc.task_manager_api;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
 import org.springframework.http.MediaType;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -24,6 +33,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.ValidationException;
 
 @WebMvcTest(TaskController.class)
+@Import(TaskWireFormatConfig.class)
 class TaskControllerUnitTests {
     @Autowired 
     private MockMvc mockMvc;
@@ -31,9 +41,18 @@ class TaskControllerUnitTests {
     @Autowired
     private ObjectMapper mapper;
 
+    @Autowired
+    private MappingJackson2SmileHttpMessageConverter smileConverter;
+
     @MockitoBean
     private TaskService service;
 
+    @MockitoBean
+    private TaskEventPublisher events;
+
+    @MockitoBean
+    private TaskIdempotencyStore idempotency;
+
     @Test
     void getAllTasks_returnsListOfTasks() throws Exception {
         UUID id = UUID.randomUUID();
@@ -54,6 +73,38 @@ class TaskControllerUnitTests {
         verify(service).retrieveAllTasks();
     }
 
+    @Test
+    void getAllTasks_returnsCbor_whenCborIsAccepted() throws Exception {
+        Task task = new Task();
+        task.setTitle("This is a title");
+
+        when(service.retrieveAllTasks()).thenReturn(List.of(task));
+
+        mockMvc.perform(get("/all").accept(MediaType.APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_CBOR));
+    }
+
+    @Test
+    void postTask_acceptsSmileBody() throws Exception {
+        MediaType smile = MediaType.parseMediaType("application/x-jackson-smile");
+        CreateTaskDto task = new CreateTaskDto("This is a title", LocalDateTime.now().plusHours(13));
+
+        Task createdTask = new Task();
+        createdTask.setTitle(task.getTitle());
+
+        when(service.createTask(task)).thenReturn(createdTask);
+
+        mockMvc.perform(post("/")
+        .contentType(smile)
+        .accept(MediaType.APPLICATION_JSON)
+        .content(smileConverter.getObjectMapper().writeValueAsBytes(task)))
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.title").value(task.getTitle()));
+
+        verify(service).createTask(task);
+    }
+
     @Test
     void getAllTasks_returnsServerError_whenUnhandledExceptionIsThrown() throws Exception {
         when(service.retrieveAllTasks()).thenThrow(new RuntimeException());
@@ -64,6 +115,147 @@ class TaskControllerUnitTests {
         verify(service).retrieveAllTasks();
     }
     
+    @Test
+    void getAllTasks_returnsSummaries_whenSummaryViewIsRequested() throws Exception {
+        UUID id = UUID.randomUUID();
+        TaskSummary summary = new TaskSummary(id, "Title", TaskStatus.BACKLOG, null, LocalDateTime.now(), null);
+
+        when(service.retrieveAllTaskSummaries()).thenReturn(List.of(summary));
+
+        mockMvc.perform(get("/all").param("view", "SUMMARY"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(id.toString()))
+            .andExpect(jsonPath("$[0].title").value("Title"))
+            .andExpect(jsonPath("$[0].description").doesNotExist());
+
+        verify(service, never()).retrieveAllTasks();
+    }
+
+    @Test
+    void getTaskPage_returnsSummaryPage_whenSummaryViewIsRequested() throws Exception {
+        UUID id = UUID.randomUUID();
+        TaskSummary summary = new TaskSummary(id, "Title", TaskStatus.BACKLOG, null, LocalDateTime.now(), null);
+
+        when(service.retrieveTaskSummaryPage(TaskQuery.unfiltered(), null, 100))
+            .thenReturn(new TaskPage<>(List.of(summary), "next"));
+
+        mockMvc.perform(get("/page").param("view", "SUMMARY"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.tasks[0].id").value(id.toString()))
+            .andExpect(jsonPath("$.tasks[0].description").doesNotExist())
+            .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(service, never()).retrieveTaskPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void getTaskPage_returnsPageOfTasks() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        Task task = new Task();
+        task.setId(id);
+
+        when(service.retrieveTaskPage(TaskQuery.unfiltered(), "cursor", 50)).thenReturn(new TaskPage<>(List.of(task), "next"));
+
+        mockMvc.perform(get("/page").param("cursor", "cursor").param("size", "50"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andExpect(jsonPath("$.tasks[0].id").value(id.toString()))
+            .andExpect(jsonPath("$.nextCursor").value("next"));
+
+        verify(service).retrieveTaskPage(TaskQuery.unfiltered(), "cursor", 50);
+    }
+
+    @Test
+    void getTaskPage_returnsBadRequest_whenCursorIsInvalid() throws Exception {
+        when(service.retrieveTaskPage(TaskQuery.unfiltered(), "not-a-cursor", 100)).thenThrow(new ValidationException());
+
+        mockMvc.perform(get("/page").param("cursor", "not-a-cursor"))
+            .andExpect(status().isBadRequest());
+
+        verify(service).retrieveTaskPage(TaskQuery.unfiltered(), "not-a-cursor", 100);
+    }
+    
+    @Test
+    void getTaskPage_bindsFiltersAndSort() throws Exception {
+        TaskQuery query = new TaskQuery(List.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS), null,
+            LocalDateTime.of(2030, 1, 1, 0, 0), null, null, null, null, TaskSort.DUE_DATE, Sort.Direction.DESC);
+
+        when(service.retrieveTaskPage(query, null, 100)).thenReturn(new TaskPage<>(List.of(), null));
+
+        mockMvc.perform(get("/page")
+                .param("status", "BACKLOG", "IN_PROGRESS")
+                .param("dueBefore", "2030-01-01T00:00:00")
+                .param("sort", "DUE_DATE")
+                .param("direction", "DESC"))
+            .andExpect(status().isOk());
+
+        verify(service).retrieveTaskPage(query, null, 100);
+    }
+
+    @Test
+    void getTaskPage_returnsBadRequest_whenFilterIsInvalid() throws Exception {
+        mockMvc.perform(get("/page").param("status", "NOT_A_STATUS"))
+            .andExpect(status().isBadRequest());
+
+        verify(service, never()).retrieveTaskPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void streamEvents_resumesFromLastEventId() throws Exception {
+        when(events.subscribe(42L)).thenReturn(new SseEmitter());
+
+        mockMvc.perform(get("/events").header("Last-Event-ID", "42"))
+            .andExpect(request().asyncStarted());
+
+        verify(events).subscribe(42L);
+    }
+
+    @Test
+    void getTask_readsArchive_whenIncludeArchivedIsRequested() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(TaskStatus.ARCHIVED);
+        task.setVersion(3L);
+
+        when(service.retrieveTaskIncludingArchived(id.toString())).thenReturn(task);
+
+        mockMvc.perform(get("/{id}", id.toString()).param("includeArchived", "true"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.status").value("ARCHIVED"));
+
+        verify(service, never()).retrieveTask(any());
+    }
+
+    @Test
+    void searchTasks_returnsHits() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        when(service.searchTasks("invoice", 1, 10))
+            .thenReturn(new TaskSearchPage(List.of(new TaskSearchHit(id, "Send invoice", 1.5f)), 11, true, 1, 10));
+
+        mockMvc.perform(get("/search").param("q", "invoice").param("page", "1").param("size", "10"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.hits[0].id").value(id.toString()))
+            .andExpect(jsonPath("$.totalHits").value(11))
+            .andExpect(jsonPath("$.totalHitsExact").value(true));
+    }
+
+    @Test
+    void getStatistics_returnsCounters() throws Exception {
+        when(service.retrieveStatistics()).thenReturn(new TaskStatistics(5,
+            Map.of(TaskStatus.BACKLOG, 3L, TaskStatus.COMPLETE, 2L), 1, 0, 2, null));
+
+        mockMvc.perform(get("/stats"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total").value(5))
+            .andExpect(jsonPath("$.byStatus.BACKLOG").value(3))
+            .andExpect(jsonPath("$.overdue").value(1))
+            .andExpect(jsonPath("$.dueThisWeek").value(2));
+    }
+
     @Test
     void postTask_returnsCreatedTask_whenTaskIsValid() throws Exception {
         String title = "This is a title";
@@ -89,6 +281,40 @@ class TaskControllerUnitTests {
         verify(service).createTask(task);
     }
     
+    @Test
+    void postTask_returnsOriginalTask_whenIdempotencyKeyIsReplayed() throws Exception {
+        CreateTaskDto task = new CreateTaskDto("This is a title", LocalDateTime.now().plusHours(13));
+
+        Task createdTask = new Task();
+        createdTask.setTitle(task.getTitle());
+
+        when(idempotency.createOnce(eq("retry-1"), eq(task), any())).thenReturn(new TaskIdempotentResponse(createdTask, true));
+
+        mockMvc.perform(post("/")
+        .header("Idempotency-Key", "retry-1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(task)))
+        .andExpect(status().isOk())
+        .andExpect(header().string("Idempotent-Replayed", "true"))
+        .andExpect(jsonPath("$.title").value(task.getTitle()));
+
+        verify(service, never()).createTask(any());
+    }
+
+    @Test
+    void postTask_returnsUnprocessableEntity_whenIdempotencyKeyIsReusedForDifferentTask() throws Exception {
+        CreateTaskDto task = new CreateTaskDto("This is a title", LocalDateTime.now().plusHours(13));
+
+        when(idempotency.createOnce(eq("retry-1"), eq(task), any()))
+            .thenThrow(new TaskIdempotencyMismatchException("retry-1"));
+
+        mockMvc.perform(post("/")
+        .header("Idempotency-Key", "retry-1")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(task)))
+        .andExpect(status().isUnprocessableEntity());
+    }
+
     @Test
     void postTask_returnsBadRequest_whenTitleIsNotUniqueOrDueDateNotAtLeast12HoursInFuture() throws Exception {
         CreateTaskDto task = new CreateTaskDto("This is a title", LocalDateTime.now().plusHours(6));
@@ -137,6 +363,24 @@ class TaskControllerUnitTests {
         verify(service).retrieveTask(strId);
     }
 
+    @Test
+    void getTask_returnsNotModified_whenETagMatches() throws Exception {
+        String strId = "5a0b7f0e-3c55-4d8b-a2b3-0c1d2e3f4a5b";
+
+        Task task = new Task();
+        task.setId(UUID.fromString(strId));
+        task.setVersion(3L);
+
+        when(service.retrieveTask(strId)).thenReturn(task);
+
+        mockMvc.perform(get("/{id}", strId).header("If-None-Match", "\"3\""))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string("ETag", "\"3\""))
+            .andExpect(content().string(""));
+
+        verify(service).retrieveTask(strId);
+    }
+
     @Test
     void getTask_returnsBadRequest_whenIdIsInvalid() throws Exception {
         String strId = "a24807d4=561c=4754=be8e=63dc723d1bbd";
@@ -197,6 +441,47 @@ class TaskControllerUnitTests {
         verify(service).updateTask(task);
     }
 
+    @Test
+    void putTask_passesIfMatchVersionToService() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto task = new UpdateTaskDto(id);
+
+        UpdateTaskDto versionedTask = new UpdateTaskDto(id);
+        versionedTask.setVersion(4L);
+
+        Task updatedTask = new Task();
+        updatedTask.setId(id);
+        updatedTask.setVersion(5L);
+
+        when(service.updateTask(versionedTask)).thenReturn(updatedTask);
+
+        mockMvc.perform(put("/")
+            .header("If-Match", "\"4\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(task)))
+            .andExpect(status().isOk())
+            .andExpect(header().string("ETag", "\"5\""));
+
+        verify(service).updateTask(versionedTask);
+    }
+
+    @Test
+    void putTask_returnsPreconditionFailed_whenVersionIsStale() throws Exception {
+        UpdateTaskDto task = new UpdateTaskDto(UUID.randomUUID());
+        task.setVersion(1L);
+
+        when(service.updateTask(task)).thenThrow(new TaskVersionException(task.getId(), 1L));
+
+        mockMvc.perform(put("/")
+            .header("If-Match", "\"1\"")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(task)))
+            .andExpect(status().isPreconditionFailed());
+
+        verify(service).updateTask(task);
+    }
+
     @Test
     void putTask_returnsBadRequest_whenTitleIsNotUnique() throws Exception {
         UpdateTaskDto task = new UpdateTaskDto();
@@ -257,6 +542,19 @@ class TaskControllerUnitTests {
         verify(service).updateTask(task);
     }
 
+    @Test
+    void patchTask_returnsNoContent_whenPatchIsApplied() throws Exception {
+        UpdateTaskDto task = new UpdateTaskDto(UUID.randomUUID());
+        task.setStatus(TaskStatus.IN_PROGRESS);
+
+        mockMvc.perform(patch("/")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(task)))
+            .andExpect(status().isNoContent());
+
+        verify(service).patchTask(task);
+    }
+
     @Test
     void deleteTask_returnsNoContent_whenTaskExists() throws Exception {
         String strId = "eb77fb2a-c8ca-4ae5-b30c-81178cd58c32";
@@ -306,4 +604,38 @@ class TaskControllerUnitTests {
         mockMvc.perform(delete("/{id}", strId))
             .andExpect(status().isInternalServerError());
     }
-}
\ No newline at end of file
+
+    @Test
+    void postTasks_returnsResultPerTask() throws Exception {
+        List<CreateTaskDto> tasks = List.of(
+            new CreateTaskDto("This is a title", LocalDateTime.now().plusHours(13)),
+            new CreateTaskDto("This is a title", LocalDateTime.now().plusHours(13)));
+        UUID id = UUID.randomUUID();
+
+        when(service.createTasks(tasks)).thenReturn(List.of(
+            new TaskBatchResult(0, id, 201, null),
+            new TaskBatchResult(1, null, 400, "Task title must be unique")));
+
+        mockMvc.perform(post("/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(tasks)))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$[0].id").value(id.toString()))
+            .andExpect(jsonPath("$[0].status").value(201))
+            .andExpect(jsonPath("$[1].status").value(400));
+
+        verify(service).createTasks(tasks);
+    }
+
+    @Test
+    void postTasks_returnsBadRequest_whenTaskFailsConstraints() throws Exception {
+        List<CreateTaskDto> tasks = List.of(new CreateTaskDto("", LocalDateTime.now().plusHours(13)));
+
+        mockMvc.perform(post("/batch")
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(mapper.writeValueAsString(tasks)))
+            .andExpect(status().isBadRequest());
+
+        verify(service, never()).createTasks(any());
+    }
+}
@@ -0,0 +1,54 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TaskEventPublisherUnitTests {
+    @Test
+    void publish_dropsSubscriber_whenItsBufferIsFull() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        TaskEventPublisher publisher = new TaskEventPublisher(pendingDrains::add, 10, 1, Duration.ofMinutes(1));
+
+        publisher.subscribe(null);
+        publisher.publish(TaskEventType.CREATED, UUID.randomUUID(), null);
+
+        assertEquals(1, publisher.subscriberCount());
+
+        publisher.publish(TaskEventType.DELETED, UUID.randomUUID(), null);
+
+        assertEquals(0, publisher.subscriberCount());
+        assertEquals(1, pendingDrains.size());
+    }
+
+    @Test
+    void publish_keepsSubscriber_whenItKeepsUp() {
+        TaskEventPublisher publisher = new TaskEventPublisher(Runnable::run, 10, 1, Duration.ofMinutes(1));
+
+        publisher.subscribe(null);
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(TaskEventType.UPDATED, UUID.randomUUID(), null);
+        }
+
+        assertEquals(1, publisher.subscriberCount());
+    }
+
+    @Test
+    void subscribe_registersSubscriber_whenLastEventIdIsNoLongerRetained() {
+        TaskEventPublisher publisher = new TaskEventPublisher(Runnable::run, 2, 10, Duration.ofMinutes(1));
+
+        for (int i = 0; i < 5; i++) {
+            publisher.publish(TaskEventType.UPDATED, UUID.randomUUID(), null);
+        }
+
+        publisher.subscribe(1L);
+
+        assertEquals(1, publisher.subscriberCount());
+    }
+}
@@ -0,0 +1,89 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@SpringBootTest(properties = "tasks.idempotency.persist=true")
+@Transactional
+@Rollback
+class TaskIdempotencyStoreIntegrationTests {
+    @Autowired
+    private TaskIdempotencyStore store;
+
+    @Autowired
+    private TaskIdempotencyKeyRepository repository;
+
+    @Autowired
+    private TaskShards shards;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @Autowired
+    private TaskService service;
+
+    @Test
+    void createOnce_replaysOriginalResponse_withoutCreatingAgain() {
+        CreateTaskDto request = new CreateTaskDto("Idempotent task", LocalDateTime.now().plusDays(1));
+        AtomicInteger creations = new AtomicInteger();
+
+        TaskIdempotentResponse first = store.createOnce("key-1", request, () -> {
+            creations.incrementAndGet();
+            return service.createTask(request);
+        });
+        TaskIdempotentResponse retry = store.createOnce("key-1", request, () -> {
+            creations.incrementAndGet();
+            return service.createTask(request);
+        });
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(first.task().getId(), retry.task().getId());
+        assertEquals(1, creations.get());
+    }
+
+    @Test
+    void createOnce_replaysPersistedResponse_whenInMemoryEntryIsGone() {
+        CreateTaskDto request = new CreateTaskDto("Persisted idempotent task", LocalDateTime.now().plusDays(1));
+        Task created = store.createOnce("key-2", request, () -> service.createTask(request)).task();
+
+        TaskIdempotencyStore restarted = new TaskIdempotencyStore(repository, shards, transactionTemplate, mapper, 100,
+            Duration.ofHours(1), true);
+        TaskIdempotentResponse replayed = restarted.createOnce("key-2", request, () -> {
+            throw new AssertionError("Replayed request must not create a task");
+        });
+
+        assertTrue(replayed.replayed());
+        assertEquals(created.getId(), replayed.task().getId());
+        assertEquals(created.getTitle(), replayed.task().getTitle());
+    }
+
+    @Test
+    void createOnce_throwsMismatch_whenKeyIsReusedForDifferentRequest() {
+        CreateTaskDto request = new CreateTaskDto("Original task", LocalDateTime.now().plusDays(1));
+        CreateTaskDto other = new CreateTaskDto("Other task", LocalDateTime.now().plusDays(1));
+
+        store.createOnce("key-3", request, () -> service.createTask(request));
+
+        assertThrows(TaskIdempotencyMismatchException.class,
+            () -> store.createOnce("key-3", other, () -> service.createTask(other)));
+    }
+}
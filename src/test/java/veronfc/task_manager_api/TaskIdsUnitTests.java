@@ -0,0 +1,56 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+class TaskIdsUnitTests {
+    @Test
+    void timeOrdered_setsVersionVariantAndTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID id = TaskIds.timeOrdered();
+
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+        assertTrue(id.getMostSignificantBits() >>> 16 >= before);
+        assertTrue(id.getMostSignificantBits() >>> 16 <= System.currentTimeMillis() + 1_000);
+    }
+
+    @Test
+    void timeOrdered_increasesWithinTheSameMillisecond() {
+        UUID previous = TaskIds.timeOrdered();
+
+        for (int i = 0; i < 100_000; i++) {
+            UUID next = TaskIds.timeOrdered();
+
+            assertTrue(TaskShards.ID_ORDER.compare(previous, next) < 0, previous + " is not before " + next);
+            previous = next;
+        }
+    }
+
+    @Test
+    void next_usesConfiguredVersion() {
+        assertEquals(4, new TaskIds(4).next().version());
+        assertEquals(7, new TaskIds(7).next().version());
+    }
+
+    @Test
+    void customize_passesVersionToHibernate() {
+        Map<String, Object> properties = new HashMap<>();
+
+        new TaskIds(4).customize(properties);
+
+        assertEquals(4, properties.get(TaskIds.VERSION_SETTING));
+    }
+
+    @Test
+    void constructor_rejectsUnsupportedVersion() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskIds(5));
+    }
+}
@@ -0,0 +1,81 @@
+package veronfc.task_manager_api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@WebMvcTest(controllers = TaskIngestionController.class, properties = "tasks.ingestion.enabled=true")
+class TaskIngestionControllerUnitTests {
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper mapper;
+
+    @MockitoBean
+    private TaskIngestionQueue ingestion;
+
+    @Test
+    void postTaskAsync_returnsAccepted_withIngestionLocation() throws Exception {
+        UUID id = UUID.randomUUID();
+        CreateTaskDto task = new CreateTaskDto("This is a title", LocalDateTime.now().plusDays(1));
+
+        when(ingestion.submit(task)).thenReturn(TaskIngestionStatus.pending(id));
+
+        mockMvc.perform(post("/async")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(task)))
+        .andExpect(status().isAccepted())
+        .andExpect(header().string("Location", "/ingestion/" + id))
+        .andExpect(jsonPath("$.state").value("PENDING"));
+    }
+
+    @Test
+    void postTaskAsync_returnsServiceUnavailable_whenQueueIsFull() throws Exception {
+        CreateTaskDto task = new CreateTaskDto("This is a title", LocalDateTime.now().plusDays(1));
+
+        when(ingestion.submit(any())).thenThrow(new TaskIngestionException(10));
+
+        mockMvc.perform(post("/async")
+        .contentType(MediaType.APPLICATION_JSON)
+        .content(mapper.writeValueAsString(task)))
+        .andExpect(status().isServiceUnavailable())
+        .andExpect(header().string("Retry-After", "1"));
+    }
+
+    @Test
+    void getIngestionStatus_returnsRejectedTask() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        when(ingestion.status(id)).thenReturn(TaskIngestionStatus.rejected(id, "Task title must be unique"));
+
+        mockMvc.perform(get("/ingestion/" + id))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.state").value("REJECTED"))
+            .andExpect(jsonPath("$.error").value("Task title must be unique"));
+    }
+
+    @Test
+    void getIngestionStatus_returnsNotFound_whenIdIsUnknown() throws Exception {
+        UUID id = UUID.randomUUID();
+
+        when(ingestion.status(id)).thenThrow(new TaskIngestionNotFoundException(id));
+
+        mockMvc.perform(get("/ingestion/" + id))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,87 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import jakarta.validation.ValidationException;
+
+@ExtendWith(MockitoExtension.class)
+class TaskIngestionQueueUnitTests {
+    @Mock
+    private TaskService service;
+
+    @Test
+    void submit_throwsIngestionException_whenQueueIsFull() {
+        TaskIngestionQueue queue = queue(1);
+
+        queue.submit(task("First task"));
+
+        assertThrows(TaskIngestionException.class, () -> queue.submit(task("Second task")));
+    }
+
+    @Test
+    void flush_recordsAcceptedAndRejectedTasks() {
+        TaskIngestionQueue queue = queue(10);
+        UUID taskId = UUID.randomUUID();
+        TaskIngestionStatus first = queue.submit(task("First task"));
+        TaskIngestionStatus second = queue.submit(task("First task"));
+
+        when(service.createTasks(any())).thenReturn(List.of(
+            TaskBatchResult.success(0, taskId, HttpStatus.CREATED),
+            TaskBatchResult.failure(1, null, new ValidationException("Task title must be unique"))));
+
+        assertEquals(TaskIngestionState.PENDING, queue.status(first.id()).state());
+        assertEquals(2, queue.flush());
+        assertEquals(TaskIngestionStatus.accepted(first.id(), taskId), queue.status(first.id()));
+        assertEquals(TaskIngestionStatus.rejected(second.id(), "Task title must be unique"), queue.status(second.id()));
+    }
+
+    @Test
+    void flush_writesTasksOneByOne_whenBatchFails() {
+        TaskIngestionQueue queue = queue(10);
+        CreateTaskDto accepted = task("Accepted task");
+        CreateTaskDto rejected = task("Rejected task");
+        Task created = new Task();
+        created.setId(UUID.randomUUID());
+        TaskIngestionStatus first = queue.submit(accepted);
+        TaskIngestionStatus second = queue.submit(rejected);
+
+        when(service.createTasks(any())).thenThrow(new DataIntegrityViolationException("uk_task_title"));
+        when(service.createTask(accepted)).thenReturn(created);
+        when(service.createTask(rejected)).thenThrow(new ValidationException("Task title must be unique"));
+
+        queue.flush();
+
+        assertEquals(TaskIngestionStatus.accepted(first.id(), created.getId()), queue.status(first.id()));
+        assertEquals(TaskIngestionStatus.rejected(second.id(), "Task title must be unique"), queue.status(second.id()));
+        verify(service).createTask(accepted);
+    }
+
+    @Test
+    void status_throwsNotFound_whenIdIsUnknown() {
+        assertThrows(TaskIngestionNotFoundException.class, () -> queue(10).status(UUID.randomUUID()));
+    }
+
+    private TaskIngestionQueue queue(int capacity) {
+        return new TaskIngestionQueue(service, capacity, 100, Duration.ofMinutes(5), 1000);
+    }
+
+    private static CreateTaskDto task(String title) {
+        return new CreateTaskDto(title, LocalDateTime.now().plusDays(1));
+    }
+}
@@ -0,0 +1,69 @@
+package veronfc.task_manager_api;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class TaskOutboxRelayUnitTests {
+    @Mock
+    private TaskOutboxRepository repository;
+
+    @Mock
+    private TaskOutboxSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void relay_drainsBatchesUntilOutboxIsEmpty() throws Exception {
+        List<TaskOutboxEvent> full = List.of(event(1L), event(2L));
+        List<TaskOutboxEvent> partial = List.of(event(3L));
+
+        when(repository.findByOrderByIdAsc(Limit.of(2))).thenReturn(full, partial);
+
+        relay().relay();
+
+        verify(sink).accept(full);
+        verify(sink).accept(partial);
+        verify(repository).deleteAllInBatch(full);
+        verify(repository).deleteAllInBatch(partial);
+        verify(repository, times(2)).findByOrderByIdAsc(Limit.of(2));
+    }
+
+    @Test
+    void relay_keepsEvents_whenSinkFails() throws Exception {
+        List<TaskOutboxEvent> events = List.of(event(1L));
+
+        when(repository.findByOrderByIdAsc(Limit.of(2))).thenReturn(events);
+        doThrow(new IOException("disk full")).when(sink).accept(events);
+
+        relay().relay();
+
+        verify(repository, never()).deleteAllInBatch(any());
+    }
+
+    private TaskOutboxRelay relay() {
+        return new TaskOutboxRelay(repository, sink, new TaskShards(transactionManager, false, List.of(), 128),
+            new TransactionTemplate(transactionManager), 2);
+    }
+
+    private static TaskOutboxEvent event(Long id) {
+        return new TaskOutboxEvent(id, TaskEventType.CREATED, UUID.randomUUID(), null, null);
+    }
+}
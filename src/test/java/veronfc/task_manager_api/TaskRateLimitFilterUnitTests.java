@@ -0,0 +1,104 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class TaskRateLimitFilterUnitTests {
+    @Test
+    void tryAcquire_returnsWaitTime_whenBucketIsEmpty() {
+        long second = TimeUnit.SECONDS.toNanos(1);
+        TokenBucket bucket = new TokenBucket(2, 1, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(second, bucket.tryAcquire(0));
+        assertEquals(second / 2, bucket.tryAcquire(second / 2));
+        assertEquals(0, bucket.tryAcquire(second));
+    }
+
+    @Test
+    void of_classifiesListAndBulkEndpoints() {
+        assertEquals(TaskRateBudget.LIST, TaskRateBudget.of("GET", "/all"));
+        assertEquals(TaskRateBudget.LIST, TaskRateBudget.of("GET", "/all/stream"));
+        assertEquals(TaskRateBudget.LIST, TaskRateBudget.of("GET", "/page"));
+        assertEquals(TaskRateBudget.LIST, TaskRateBudget.of("GET", "/search"));
+        assertEquals(TaskRateBudget.BULK, TaskRateBudget.of("PUT", "/batch"));
+        assertEquals(TaskRateBudget.DEFAULT, TaskRateBudget.of("GET", "/123"));
+        assertEquals(TaskRateBudget.DEFAULT, TaskRateBudget.of("POST", "/"));
+    }
+
+    @Test
+    void doFilter_returnsTooManyRequests_whenClientExceedsListBudget() throws Exception {
+        TaskRateLimitFilter filter = filter(true, 100);
+
+        assertEquals(200, send(filter, "GET", "/all", "client-a").getStatus());
+        assertEquals(200, send(filter, "GET", "/all", "client-a").getStatus());
+
+        MockHttpServletResponse response = send(filter, "GET", "/all", "client-a");
+
+        assertEquals(429, response.getStatus());
+        assertEquals("1", response.getHeader("Retry-After"));
+        assertEquals(200, send(filter, "GET", "/all", "client-b").getStatus());
+        assertEquals(200, send(filter, "GET", "/123", "client-a").getStatus());
+    }
+
+    @Test
+    void doFilter_sharesRemoteAddressBucket_whenApiKeyIsUnknown() throws Exception {
+        TaskRateLimitFilter filter = filter(true, 100);
+
+        assertEquals(200, send(filter, "GET", "/all", "made-up-1").getStatus());
+        assertEquals(200, send(filter, "GET", "/all", "made-up-2").getStatus());
+        assertEquals(429, send(filter, "GET", "/all", "made-up-3").getStatus());
+        assertEquals(200, send(filter, "GET", "/all", "client-a").getStatus());
+    }
+
+    @Test
+    void doFilter_ignoresActuatorRequests() throws Exception {
+        TaskRateLimitFilter filter = filter(true, 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals(200, send(filter, "GET", "/actuator/health", "client-a").getStatus());
+        }
+    }
+
+    @Test
+    void doFilter_returnsServiceUnavailable_whenConcurrencyLimitIsExceeded() throws Exception {
+        TaskRateLimitFilter filter = filter(false, 1);
+        MockHttpServletResponse[] nested = new MockHttpServletResponse[1];
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/123"), response,
+            (request, ignored) -> nested[0] = send(filter, "GET", "/456", "client-b"));
+
+        assertEquals(200, response.getStatus());
+        assertEquals(503, nested[0].getStatus());
+        assertEquals("1", nested[0].getHeader("Retry-After"));
+    }
+
+    private static TaskRateLimitFilter filter(boolean rateLimitEnabled, int maxConcurrent) {
+        return new TaskRateLimitFilter(rateLimitEnabled, 10, 1, 2, 1, 1, 1, 1000, List.of("client-a", "client-b"),
+            true, maxConcurrent, Duration.ofSeconds(1));
+    }
+
+    private static MockHttpServletResponse send(TaskRateLimitFilter filter, String method, String path, String apiKey) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, path);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        request.addHeader(TaskRateLimitFilter.API_KEY_HEADER, apiKey);
+
+        try {
+            filter.doFilter(request, response, new MockFilterChain());
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+
+        return response;
+    }
+}
@@ -0,0 +1,139 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TaskReminderSchedulerUnitTests {
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private TaskEventPublisher events;
+
+    @Mock
+    private TaskScheduler scheduler;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskReminderScheduler reminders;
+
+    @BeforeEach
+    void createScheduler() {
+        reminders = new TaskReminderScheduler(repository, new TaskShards(transactionManager, false, List.of(), 128),
+            events, scheduler, Duration.ofHours(1), Duration.ofDays(1));
+    }
+
+    @Test
+    void fireDue_firesDueSoonThenOverdue() {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = task(TaskStatus.IN_PROGRESS, now.plusHours(2));
+
+        reminders.schedule(task, now);
+
+        assertEquals(0, reminders.fireDue(now.plusMinutes(30)));
+        assertEquals(1, reminders.fireDue(now.plusMinutes(61)));
+        verify(events).publish(TaskEventType.DUE_SOON, task.getId(), null);
+
+        assertEquals(1, reminders.fireDue(now.plusHours(2).plusSeconds(1)));
+        verify(events).publish(TaskEventType.OVERDUE, task.getId(), null);
+        assertEquals(0, reminders.size());
+    }
+
+    @Test
+    void schedule_armsTimerForEarliestReminder() {
+        LocalDateTime now = LocalDateTime.now();
+
+        reminders.schedule(task(TaskStatus.BACKLOG, now.plusHours(3)), now);
+
+        verify(scheduler).schedule(any(Runnable.class), eq(now.plusHours(2).atZone(ZoneId.systemDefault()).toInstant()));
+    }
+
+    @Test
+    void schedule_ignoresClosedTasks() {
+        LocalDateTime now = LocalDateTime.now();
+
+        reminders.schedule(task(TaskStatus.COMPLETE, now.plusHours(2)), now);
+
+        assertEquals(0, reminders.size());
+    }
+
+    @Test
+    void apply_cancelsReminder_whenTaskIsDeleted() {
+        LocalDateTime now = LocalDateTime.now();
+        Task task = task(TaskStatus.BACKLOG, now.plusHours(2));
+
+        reminders.schedule(task, now);
+        reminders.apply(new TaskEvent(1, TaskEventType.DELETED, task.getId(), null));
+
+        assertEquals(0, reminders.fireDue(now.plusDays(1)));
+        verify(events, never()).publish(any(), any(), any());
+    }
+
+    @Test
+    void rebuild_loadsUpcomingDueDatesWithRangeQuery() {
+        LocalDateTime dueDate = LocalDateTime.now().plusHours(5);
+
+        when(repository.findDueDatesUntil(any(), any()))
+            .thenReturn(List.of(new TaskDueDate(UUID.randomUUID(), dueDate), new TaskDueDate(UUID.randomUUID(), dueDate)));
+
+        reminders.rebuild();
+
+        assertEquals(2, reminders.size());
+    }
+
+    @Test
+    void rebuild_firesOverdueForTasksAlreadyPastDue() {
+        LocalDateTime now = LocalDateTime.now();
+        UUID taskId = UUID.randomUUID();
+
+        when(repository.findDueDatesUntil(any(), any())).thenReturn(List.of(new TaskDueDate(taskId, now.minusDays(2))));
+
+        reminders.rebuild();
+
+        assertEquals(1, reminders.fireDue(LocalDateTime.now()));
+        verify(events).publish(TaskEventType.OVERDUE, taskId, null);
+    }
+
+    @Test
+    void rebuild_skipsTasksCompletedWhileLoading() {
+        Task task = task(TaskStatus.COMPLETE, LocalDateTime.now().plusHours(5));
+
+        when(repository.findDueDatesUntil(any(), any())).thenAnswer(invocation -> {
+            reminders.apply(new TaskEvent(1, TaskEventType.UPDATED, task.getId(), task));
+            return List.of(new TaskDueDate(task.getId(), task.getDueDate()));
+        });
+
+        reminders.rebuild();
+
+        assertEquals(0, reminders.size());
+    }
+
+    private static Task task(TaskStatus status, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+
+        return task;
+    }
+}
@@ -0,0 +1,154 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.hibernate.engine.spi.SessionImplementor;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+    + "veronfc.task_manager_api.TaskRepositoryIntegrationTests$CapturedSql")
+@Transactional
+@Rollback
+class TaskRepositoryIntegrationTests {
+    @Autowired
+    private TaskRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void findPage_appliesFiltersAndSortsByDueDateDescending() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Task soon = save("Due soon", now.plusDays(1), TaskStatus.BACKLOG);
+        Task later = save("Due later", now.plusDays(3), TaskStatus.IN_PROGRESS);
+        save("Due much later", now.plusDays(10), TaskStatus.BACKLOG);
+        save("Already complete", now.plusDays(2), TaskStatus.COMPLETE);
+
+        TaskQuery query = new TaskQuery(List.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS), null, now.plusDays(5),
+            null, null, null, null, TaskSort.DUE_DATE, Sort.Direction.DESC);
+
+        List<Task> firstPage = repository.findPage(query, null, 1);
+        List<Task> secondPage = repository.findPage(query, TaskCursor.of(firstPage.get(0), query.sort()), 10);
+
+        assertEquals(List.of(later.getId()), firstPage.stream().map(Task::getId).toList());
+        assertEquals(List.of(soon.getId()), secondPage.stream().map(Task::getId).toList());
+    }
+
+    @Test
+    void findSummaryPage_selectsSummariesWithoutManagingEntities() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Task task = save("Summarised", now.plusDays(1), TaskStatus.IN_PROGRESS);
+        entityManager.clear();
+
+        TaskQuery query = new TaskQuery(List.of(TaskStatus.IN_PROGRESS), null, null, null, null, null, null, null, null);
+
+        List<TaskSummary> summaries = repository.findSummaryPage(query, null, 10);
+
+        assertEquals(List.of(task.getId()), summaries.stream().map(TaskSummary::id).toList());
+        assertEquals("Summarised", summaries.get(0).title());
+        assertEquals(0, entityManager.unwrap(SessionImplementor.class).getPersistenceContext().getNumberOfManagedEntities());
+    }
+
+    @Test
+    void findDueDatesBetween_returnsOpenTasksInRange() {
+        LocalDateTime now = LocalDateTime.now();
+
+        Task dueSoon = save("Due within range", now.plusHours(2), TaskStatus.BACKLOG);
+        save("Due beyond range", now.plusDays(3), TaskStatus.BACKLOG);
+        save("Complete within range", now.plusHours(2), TaskStatus.COMPLETE);
+
+        List<TaskDueDate> dueDates = repository.findDueDatesBetween(
+            List.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS), now, now.plusDays(1));
+
+        assertEquals(List.of(dueSoon.getId()), dueDates.stream().map(TaskDueDate::id).toList());
+    }
+
+    @Test
+    void statusAndDueDateFilter_seeksStatusDueDateIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskQuery query = new TaskQuery(List.of(TaskStatus.BACKLOG, TaskStatus.IN_PROGRESS), null, now.plusDays(5),
+            null, null, null, null, TaskSort.DUE_DATE, Sort.Direction.ASC);
+        TaskCursor after = new TaskCursor(now, UUID.randomUUID());
+
+        String plan = explain(query, after, TaskStatus.BACKLOG.ordinal(), TaskStatus.IN_PROGRESS.ordinal(), now.plusDays(5));
+
+        assertTrue(plan.contains("IDX_TASK_STATUS_DUE_DATE: STATUS IN(?1, ?2)"), plan);
+    }
+
+    @Test
+    void updatedAtKeyset_seeksUpdatedAtIndex() {
+        TaskQuery query = new TaskQuery(List.of(), null, null, null, null, null, null, TaskSort.UPDATED_AT,
+            Sort.Direction.DESC);
+        TaskCursor after = new TaskCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        String plan = explain(query, after);
+
+        assertTrue(plan.contains("IDX_TASK_UPDATED_AT_ID: UPDATED_AT <= ?1"), plan);
+    }
+
+    @Test
+    void dueDateKeyset_seeksDueDateIndex() {
+        TaskQuery query = new TaskQuery(List.of(), null, null, null, null, null, null, TaskSort.DUE_DATE,
+            Sort.Direction.ASC);
+        TaskCursor after = new TaskCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        String plan = explain(query, after);
+
+        assertTrue(plan.contains("IDX_TASK_DUE_DATE_ID: DUE_DATE >= ?1"), plan);
+    }
+
+    private Task save(String title, LocalDateTime dueDate, TaskStatus status) {
+        Task task = new Task();
+        task.setTitle(title);
+        task.setDueDate(dueDate);
+        task.setStatus(status);
+
+        return repository.saveAndFlush(task);
+    }
+
+    private String explain(TaskQuery query, TaskCursor after, Object... filters) {
+        CapturedSql.statements.clear();
+        repository.findPage(query, after, 10);
+
+        String sql = CapturedSql.statements.stream()
+            .filter(statement -> statement.startsWith("select"))
+            .reduce((first, second) -> second)
+            .orElseThrow();
+
+        List<Object> parameters = new ArrayList<>(List.of(filters));
+        parameters.addAll(List.of(after.key(), after.key(), after.key(), after.id(), 10));
+
+        return jdbcTemplate.queryForObject("explain " + sql, String.class, parameters.toArray()).toUpperCase();
+    }
+
+    public static class CapturedSql implements StatementInspector {
+        static final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+    }
+}
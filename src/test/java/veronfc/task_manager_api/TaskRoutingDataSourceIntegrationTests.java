@@ -0,0 +1,63 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+@SpringBootTest(properties = {
+    "spring.datasource.url=jdbc:h2:mem:routing-primary;DB_CLOSE_DELAY=-1",
+    "tasks.datasource.replicas.enabled=true",
+    "tasks.datasource.replicas.urls=" + TaskRoutingDataSourceIntegrationTests.REPLICA_URL,
+    "tasks.datasource.replica-lag=1h"
+})
+class TaskRoutingDataSourceIntegrationTests {
+    static final String REPLICA_URL = "jdbc:h2:mem:routing-replica;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private TaskService service;
+
+    @Test
+    void readOnlyReads_goToReplica_untilTheyFollowAWrite() {
+        JdbcTemplate primary = new JdbcTemplate(primaryDataSource);
+        JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+        primary.queryForList("SCRIPT NODATA", String.class).stream()
+            .filter(statement -> !statement.startsWith("--"))
+            .forEach(replica::execute);
+
+        UUID replicaOnly = UUID.randomUUID();
+        replica.update("insert into task (id, title, status, due_date, created_at, updated_at, version) "
+            + "values (?, 'Replica only task', 0, ?, ?, ?, 0)",
+            replicaOnly, LocalDateTime.now().plusDays(1), LocalDateTime.now(), LocalDateTime.now());
+
+        assertEquals(List.of(replicaOnly), service.retrieveAllTasks().stream().map(Task::getId).toList());
+        assertEquals(List.of(replicaOnly),
+            service.retrieveAllTaskSummaries().stream().map(TaskSummary::id).toList());
+
+        Task created = service.createTask(new CreateTaskDto("Primary task", LocalDateTime.now().plusDays(1)));
+        List<UUID> afterWrite = service.retrieveAllTasks().stream().map(Task::getId).toList();
+
+        assertTrue(afterWrite.contains(created.getId()));
+        assertFalse(afterWrite.contains(replicaOnly));
+
+        List<UUID> summariesAfterWrite = service.retrieveAllTaskSummaries().stream().map(TaskSummary::id).toList();
+
+        assertTrue(summariesAfterWrite.contains(created.getId()));
+        assertFalse(summariesAfterWrite.contains(replicaOnly));
+        assertEquals(replicaOnly, service.retrieveTask(replicaOnly.toString()).getId());
+    }
+}
@@ -0,0 +1,53 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TaskRoutingDataSourceUnitTests {
+    @Mock
+    private TaskReplicaGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void determineCurrentLookupKey_routesWritesToPrimary() {
+        assertEquals(TaskRoutingDataSource.PRIMARY, routing().determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_balancesReadOnlyTransactionsAcrossReplicas() {
+        TaskRoutingDataSource routing = routing();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+        assertEquals("replica-1", routing.determineCurrentLookupKey());
+        assertEquals("replica-0", routing.determineCurrentLookupKey());
+    }
+
+    @Test
+    void determineCurrentLookupKey_routesPinnedReadsToPrimary() {
+        TaskRoutingDataSource routing = routing();
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        when(guard.isPinnedToPrimary()).thenReturn(true);
+
+        assertEquals(TaskRoutingDataSource.PRIMARY, routing.determineCurrentLookupKey());
+    }
+
+    private TaskRoutingDataSource routing() {
+        return new TaskRoutingDataSource(List.of("replica-0", "replica-1"), List.of(), guard);
+    }
+}
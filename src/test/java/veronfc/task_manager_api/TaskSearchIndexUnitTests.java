@@ -0,0 +1,184 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ValidationException;
+
+@ExtendWith(MockitoExtension.class)
+class TaskSearchIndexUnitTests {
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private TaskEventPublisher events;
+
+    private final Directory directory = new ByteBuffersDirectory();
+
+    private TaskSearchIndex index;
+
+    @BeforeEach
+    void createIndex() throws IOException {
+        index = open(transactionTemplate);
+    }
+
+    @AfterEach
+    void closeIndex() throws IOException {
+        index.destroy();
+    }
+
+    @Test
+    void search_ranksTitleMatchesAboveDescriptionMatches() {
+        Task inDescription = index(task("Weekly sync", "Prepare the invoice summary"));
+        Task inTitle = index(task("Send invoice to client", null));
+
+        List<UUID> ids = index.search("invoice", 0, 10).hits().stream().map(TaskSearchHit::id).toList();
+
+        assertEquals(List.of(inTitle.getId(), inDescription.getId()), ids);
+    }
+
+    @Test
+    void search_matchesPrefixes() {
+        Task task = index(task("Quarterly planning", null));
+
+        TaskSearchPage result = index.search("quart", 0, 10);
+
+        assertEquals(List.of(task.getId()), result.hits().stream().map(TaskSearchHit::id).toList());
+    }
+
+    @Test
+    void search_requiresEveryWord() {
+        index(task("Fix login bug", null));
+        Task both = index(task("Fix payment bug", null));
+
+        List<UUID> ids = index.search("payment bug", 0, 10).hits().stream().map(TaskSearchHit::id).toList();
+
+        assertEquals(List.of(both.getId()), ids);
+    }
+
+    @Test
+    void search_paginatesHits() {
+        for (int i = 0; i < 5; i++) {
+            index(task("Report " + i, null));
+        }
+
+        TaskSearchPage second = index.search("report", 1, 2);
+
+        assertEquals(2, second.hits().size());
+        assertEquals(5, second.totalHits());
+        assertTrue(second.totalHitsExact());
+    }
+
+    @Test
+    void apply_removesDeletedTasks() {
+        Task task = index(task("Temporary task", null));
+
+        index.apply(new TaskEvent(2, TaskEventType.DELETED, task.getId(), null));
+        awaitRefresh();
+
+        assertTrue(index.search("temporary", 0, 10).hits().isEmpty());
+    }
+
+    @Test
+    void rebuild_reusesCleanlyClosedIndex_whenItMatchesTheTasks() throws IOException {
+        Task task = index(task("Persisted task", null));
+        index.destroy();
+
+        when(repository.findLastUpdatedAt()).thenReturn(Optional.of(task.getUpdatedAt()));
+        when(repository.count()).thenReturn(1L);
+        index = open(new TransactionTemplate(transactionManager));
+        index.rebuild();
+
+        assertEquals(List.of(task.getId()),
+            index.search("persisted", 0, 10).hits().stream().map(TaskSearchHit::id).toList());
+        verify(repository, never()).streamAll();
+    }
+
+    @Test
+    void rebuild_reindexes_whenTasksWereUpdatedSinceClose() throws IOException {
+        Task task = index(task("Persisted task", null));
+        index.destroy();
+
+        task.setTitle("Renamed elsewhere");
+        task.setUpdatedAt(task.getUpdatedAt().plusMinutes(1));
+
+        when(repository.findLastUpdatedAt()).thenReturn(Optional.of(task.getUpdatedAt()));
+        when(repository.streamAll()).thenReturn(Stream.of(task));
+        index = open(new TransactionTemplate(transactionManager));
+        index.rebuild();
+
+        assertTrue(index.search("persisted", 0, 10).hits().isEmpty());
+        assertEquals(List.of(task.getId()),
+            index.search("renamed", 0, 10).hits().stream().map(TaskSearchHit::id).toList());
+    }
+
+    @Test
+    void search_throwsException_whenQueryHasNoWords() {
+        assertThrows(ValidationException.class, () -> {
+            index.search("!!!", 0, 10);
+        });
+    }
+
+    private TaskSearchIndex open(TransactionTemplate template) throws IOException {
+        return new TaskSearchIndex(directory, repository, new TaskShards(transactionManager, false, List.of(), 128),
+            template, entityManager, events, Duration.ofSeconds(1));
+    }
+
+    private Task index(Task task) {
+        index.apply(new TaskEvent(1, TaskEventType.CREATED, task.getId(), task));
+        awaitRefresh();
+
+        return task;
+    }
+
+    private void awaitRefresh() {
+        try {
+            index.awaitRefresh();
+        } catch (InterruptedException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static Task task(String title, String description) {
+        Task task = new Task();
+        task.setId(UUID.randomUUID());
+        task.setTitle(title);
+        task.setDescription(description);
+        task.setUpdatedAt(LocalDateTime.now());
+
+        return task;
+    }
+}
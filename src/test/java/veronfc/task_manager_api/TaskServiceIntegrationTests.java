@@ -1,6 +1,7 @@
 package veronfc.task_manager_api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -9,6 +10,7 @@ import static org.mockito.Mockito.times;
 
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
@@ -21,6 +23,12 @@ import org.springframework.test.annotation.Rollback;
 import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
 import jakarta.validation.ValidationException;
 
 @SpringBootTest
@@ -39,6 +47,15 @@ class TaskServiceIntegrationTests {
     @Autowired
     private TaskService service;
 
+    @Autowired
+    private MeterRegistry registry;
+
+    @Autowired
+    private TaskOutboxRepository outboxRepository;
+
+    @Autowired
+    private ObjectMapper mapper;
+
     @Test
     void createTask_persistsTask_whenTaskIsValid() {
         String title = "This is a task title";
@@ -67,6 +84,17 @@ class TaskServiceIntegrationTests {
         inOrder.verify(repository).save(createdTask);
     }
 
+    @Test
+    void createTask_assignsTimeOrderedIds() {
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(2);
+
+        Task first = service.createTask(new CreateTaskDto("First time-ordered task", dueDate));
+        Task second = service.createTask(new CreateTaskDto("Second time-ordered task", dueDate));
+
+        assertEquals(7, first.getId().version());
+        assertTrue(TaskShards.ID_ORDER.compare(first.getId(), second.getId()) < 0);
+    }
+
     @Test
     void createTask_throwsException_whenTitleIsNotUnique() {
         String title = "This is not a unique title";
@@ -295,4 +323,61 @@ class TaskServiceIntegrationTests {
         inOrder.verify(validator).checkIdValidity(strId);
         inOrder.verify(repository, times(2)).findById(UUID.fromString(strId));
     }
+
+    @Test
+    void serviceValidatorAndRepositoryCalls_areTimed() {
+        service.retrieveAllTasks();
+
+        assertThrows(ValidationException.class, () -> {
+            service.retrieveTask("not-a-uuid");
+        });
+
+        Timer serviceTimer = registry.find("tasks.service").tag("method", "retrieveAllTasks").timer();
+        Timer validatorTimer = registry.find("tasks.validator")
+            .tag("method", "checkIdValidity")
+            .tag("exception", "ValidationException")
+            .timer();
+        Timer repositoryTimer = registry.find("spring.data.repository.invocations").tag("method", "findAll").timer();
+
+        assertNotNull(serviceTimer);
+        assertNotNull(validatorTimer);
+        assertNotNull(repositoryTimer);
+        assertTrue(serviceTimer.count() >= 1);
+        assertTrue(validatorTimer.count() >= 1);
+        assertTrue(repositoryTimer.count() >= 1);
+    }
+
+    @Test
+    void createTask_writesOutboxEventInSameTransaction() {
+        CreateTaskDto task = new CreateTaskDto("This task is in the outbox", null, LocalDateTime.now().plusDays(2));
+
+        Task createdTask = service.createTask(task);
+
+        TaskOutboxEvent event = outboxRepository.findAll().stream()
+            .filter(candidate -> candidate.getTaskId().equals(createdTask.getId()))
+            .findFirst()
+            .orElseThrow();
+
+        assertEquals(TaskEventType.CREATED, event.getType());
+        assertTrue(event.getPayload().contains("This task is in the outbox"));
+    }
+
+    @Test
+    void createTasks_writesOutboxPayloadsWithTimestamps() throws Exception {
+        Task createdTask = service.createTask(new CreateTaskDto("This outbox task has timestamps", null,
+            LocalDateTime.now().plusDays(2)));
+        UUID batchId = service.createTasks(List.of(new CreateTaskDto("This batched outbox task has timestamps", null,
+            LocalDateTime.now().plusDays(2)))).get(0).id();
+
+        for (UUID id : List.of(createdTask.getId(), batchId)) {
+            TaskOutboxEvent event = outboxRepository.findAll().stream()
+                .filter(candidate -> candidate.getTaskId().equals(id))
+                .findFirst()
+                .orElseThrow();
+            JsonNode payload = mapper.readTree(event.getPayload());
+
+            assertFalse(payload.path("createdAt").isMissingNode() || payload.path("createdAt").isNull());
+            assertFalse(payload.path("updatedAt").isMissingNode() || payload.path("updatedAt").isNull());
+        }
+    }
 }
@@ -0,0 +1,59 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@SpringBootTest
+class TaskServiceTransactionIntegrationTests {
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private Task task;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        task = service.createTask(new CreateTaskDto("Transaction boundary task", LocalDateTime.now().plusDays(2)));
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.deleteTask(task.getId().toString());
+    }
+
+    @Test
+    void updateTask_usesOneConnection() {
+        UpdateTaskDto update = new UpdateTaskDto(task.getId());
+        update.setDescription("Updated in one transaction");
+
+        service.updateTask(update);
+
+        assertEquals(1, statistics.getConnectCount());
+        assertEquals(1, statistics.getTransactionCount());
+    }
+
+    @Test
+    void retrieveAllTasks_neverFlushesReadOnlyEntities() {
+        service.retrieveAllTasks().forEach(found -> found.setDescription("Changed outside a write"));
+
+        assertEquals(1, statistics.getConnectCount());
+        assertEquals(0, statistics.getFlushCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+    }
+}
@@ -1,23 +1,34 @@
 package veronfc.task_manager_api;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import jakarta.validation.ValidationException;
 
@@ -26,12 +37,141 @@ class TaskServiceUnitTests {
     @Mock
     private TaskRepository repository;
 
+    @Mock
+    private TaskArchiveRepository archiveRepository;
+
     @Mock
     private TaskValidator validator;
 
+    @Mock
+    private TaskTitleCache titleCache;
+
+    @Mock
+    private TaskCache taskCache;
+
+    @Mock
+    private TaskEventPublisher events;
+
+    @Mock
+    private TaskOutbox outbox;
+
+    @Mock
+    private TaskSearchIndex searchIndex;
+
+    @Mock
+    private TaskReplicaGuard replicaGuard;
+
+    @Mock
+    private TaskShards shards;
+
+    @Mock
+    private TaskTitleRegistry titleRegistry;
+
+    @Mock
+    private TaskIds ids;
+
+    @Mock
+    private TaskStats stats;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private TaskService service;
 
+    @Test
+    void retrieveTaskPage_returnsNextCursor_whenMoreTasksExist() {
+        Task first = new Task();
+        first.setId(UUID.randomUUID());
+        first.setCreatedAt(LocalDateTime.now().minusMinutes(2));
+
+        Task second = new Task();
+        second.setId(UUID.randomUUID());
+        second.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+
+        TaskQuery query = TaskQuery.unfiltered();
+
+        when(repository.findPage(query, null, 2)).thenReturn(List.of(first, second));
+
+        TaskPage<Task> result = service.retrieveTaskPage(query, null, 1);
+
+        assertEquals(List.of(first), result.tasks());
+        assertEquals(TaskCursor.of(first, TaskSort.CREATED_AT).encode(), result.nextCursor());
+    }
+
+    @Test
+    void retrieveTaskPage_resumesAfterCursor_whenCursorIsProvided() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.now().minusMinutes(5), UUID.randomUUID());
+        Task task = new Task();
+
+        TaskQuery query = TaskQuery.unfiltered();
+
+        when(validator.checkCursorValidity(cursor.encode())).thenReturn(cursor);
+        when(repository.findPage(query, cursor, 11)).thenReturn(List.of(task));
+
+        TaskPage<Task> result = service.retrieveTaskPage(query, cursor.encode(), 10);
+
+        assertEquals(List.of(task), result.tasks());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    void retrieveTaskPage_keysCursorOnSortField_whenSortIsNotCreatedAt() {
+        Task first = new Task();
+        first.setId(UUID.randomUUID());
+        first.setDueDate(LocalDateTime.now().plusDays(2));
+
+        Task second = new Task();
+        second.setId(UUID.randomUUID());
+        second.setDueDate(LocalDateTime.now().plusDays(1));
+
+        TaskQuery query = new TaskQuery(List.of(TaskStatus.BACKLOG), null, null, null, null, null, null,
+            TaskSort.DUE_DATE, Sort.Direction.DESC);
+
+        when(repository.findPage(query, null, 2)).thenReturn(List.of(first, second));
+
+        TaskPage<Task> result = service.retrieveTaskPage(query, null, 1);
+
+        assertEquals(new TaskCursor(first.getDueDate(), first.getId()), TaskCursor.decode(result.nextCursor()));
+    }
+
+    @Test
+    void retrieveTaskSummaryPage_returnsNextCursor_whenMoreSummariesExist() {
+        LocalDateTime now = LocalDateTime.now();
+        TaskSummary first = new TaskSummary(UUID.randomUUID(), "First", TaskStatus.BACKLOG, null, now.minusMinutes(2), now);
+        TaskSummary second = new TaskSummary(UUID.randomUUID(), "Second", TaskStatus.BACKLOG, null, now.minusMinutes(1), now);
+        TaskQuery query = TaskQuery.unfiltered();
+
+        when(repository.findSummaryPage(query, null, 2)).thenReturn(List.of(first, second));
+
+        TaskPage<TaskSummary> result = service.retrieveTaskSummaryPage(query, null, 1);
+
+        assertEquals(List.of(first), result.tasks());
+        assertEquals(TaskCursor.of(first, TaskSort.CREATED_AT).encode(), result.nextCursor());
+        verify(repository, never()).findPage(any(), any(), anyInt());
+    }
+
+    @Test
+    void searchTasks_returnsIndexResults_whenQueryIsValid() {
+        TaskSearchPage page = new TaskSearchPage(List.of(), 0, true, 0, 20);
+
+        when(searchIndex.search("invoice", 0, 20)).thenReturn(page);
+
+        assertEquals(page, service.searchTasks("invoice", 0, 20));
+        verify(validator).checkSearchValidity("invoice", 0, 20);
+    }
+
+    @Test
+    void searchTasks_throwsException_whenQueryIsInvalid() {
+        doThrow(new ValidationException()).when(validator).checkSearchValidity("", 0, 20);
+
+        assertThrows(ValidationException.class, () -> {
+            service.searchTasks("", 0, 20);
+        });
+
+        verify(searchIndex, never()).search(any(), anyInt(), anyInt());
+    }
+
     @Test
     void createTask_persistsTask_whenTitleIsUniqueAndDueDateIsAtleast12HoursInFuture() {
         String title = "This is a unique title";
@@ -52,7 +192,12 @@ class TaskServiceUnitTests {
         Task result = service.createTask(task);
         assertEquals(createdTask, result);
 
-        verify(repository).save(createdTask);
+        InOrder inOrder = inOrder(repository, outbox);
+        inOrder.verify(repository).save(createdTask);
+        inOrder.verify(repository).flush();
+        inOrder.verify(outbox).record(TaskEventType.CREATED, createdTask.getId(), createdTask);
+        verify(titleCache).remember(createdTask);
+        verify(events).publish(TaskEventType.CREATED, createdTask.getId(), createdTask);
     }
 
     @Test
@@ -69,6 +214,8 @@ class TaskServiceUnitTests {
         });
 
         verify(repository, never()).save(any());
+        verify(outbox, never()).record(any(), any(), any());
+        verify(events, never()).publish(any(), any(), any());
     }
 
     @Test
@@ -88,6 +235,40 @@ class TaskServiceUnitTests {
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void retrieveTaskIncludingArchived_returnsArchivedTask_whenTaskIsNotInHotTable() {
+        UUID id = UUID.randomUUID();
+
+        ArchivedTask archived = new ArchivedTask();
+        archived.setId(id);
+        archived.setTitle("Archived task");
+        archived.setStatus(TaskStatus.ARCHIVED);
+
+        when(validator.checkIdValidity(id.toString())).thenReturn(id);
+        when(taskCache.get(id)).thenReturn(Optional.empty());
+        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(id)).thenReturn(Optional.of(archived));
+
+        Task result = service.retrieveTaskIncludingArchived(id.toString());
+
+        assertEquals(id, result.getId());
+        assertEquals(TaskStatus.ARCHIVED, result.getStatus());
+    }
+
+    @Test
+    void retrieveTaskIncludingArchived_throwsException_whenTaskIsNowhere() {
+        UUID id = UUID.randomUUID();
+
+        when(validator.checkIdValidity(id.toString())).thenReturn(id);
+        when(taskCache.get(id)).thenReturn(Optional.empty());
+        when(repository.findById(id)).thenReturn(Optional.empty());
+        when(archiveRepository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> {
+            service.retrieveTaskIncludingArchived(id.toString());
+        });
+    }
+
     @Test
     void retrieveTask_returnsTask_whenTaskExists() {
         String strId = "fe536052-58dc-40f7-9efa-3a88b1eb82da";
@@ -101,7 +282,28 @@ class TaskServiceUnitTests {
         Task result = service.retrieveTask(strId);
         assertEquals(task, result);
 
+        verify(replicaGuard).pinIfRecentlyWritten(id);
         verify(repository).findById(id);
+        verify(taskCache).put(task, 0L);
+    }
+
+    @Test
+    void retrieveTask_returnsCachedTask_withoutQueryingRepository() {
+        String strId = "9b5f0f38-2a8e-4d2c-9d8e-6c2f4c1f7a10";
+        UUID id = UUID.fromString(strId);
+
+        Task task = new Task();
+        task.setId(id);
+
+        when(validator.checkIdValidity(strId)).thenReturn(id);
+        when(taskCache.get(id)).thenReturn(Optional.of(task));
+
+        Task result = service.retrieveTask(strId);
+        assertEquals(task, result);
+
+        verify(replicaGuard, never()).pinIfRecentlyWritten(any(UUID.class));
+        verify(repository, never()).findById(any());
+        verify(transactionManager, never()).getTransaction(any());
     }
 
     @Test
@@ -196,6 +398,26 @@ class TaskServiceUnitTests {
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void updateTask_throwsException_whenVersionDoesNotMatch() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto updatedTask = new UpdateTaskDto(id);
+        updatedTask.setVersion(1L);
+
+        Task task = new Task();
+        task.setId(id);
+        task.setVersion(2L);
+
+        when(repository.findById(id)).thenReturn(Optional.of(task));
+
+        assertThrows(TaskVersionException.class, () -> {
+            service.updateTask(updatedTask);
+        });
+
+        verify(repository, never()).save(any());
+    }
+
     @Test
     void updateTask_throwsException_whenTaskIsNotFound() {
         UUID id = UUID.randomUUID();
@@ -212,6 +434,107 @@ class TaskServiceUnitTests {
         verify(repository, never()).save(any());
     }
 
+    @Test
+    void patchTask_updatesWithoutLoadingTask_whenRowMatches() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto patchedTask = new UpdateTaskDto(id);
+        patchedTask.setDescription("This is a patched description");
+
+        when(repository.patch(patchedTask)).thenReturn(1);
+
+        service.patchTask(patchedTask);
+
+        verify(repository, never()).findById(any());
+        verify(taskCache).evict(id);
+    }
+
+    @Test
+    void patchTask_marksStatisticsStale_whenStatusChanges() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto patchedTask = new UpdateTaskDto(id);
+        patchedTask.setStatus(TaskStatus.IN_PROGRESS);
+
+        when(repository.patch(patchedTask)).thenReturn(1);
+
+        service.patchTask(patchedTask);
+
+        verify(repository, never()).findById(any());
+        verify(stats).patched();
+    }
+
+    @Test
+    void patchTask_throwsException_whenStatusIsComplete() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto patchedTask = new UpdateTaskDto(id);
+
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(TaskStatus.COMPLETE);
+
+        when(repository.patch(patchedTask)).thenReturn(0);
+        when(repository.findById(id)).thenReturn(Optional.of(task));
+
+        assertThrows(TaskStatusException.class, () -> {
+            service.patchTask(patchedTask);
+        });
+
+        verify(taskCache, never()).evict(any());
+    }
+
+    @Test
+    void patchTask_throwsConflict_whenNoVersionWasSentAndNoRowMatched() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto patchedTask = new UpdateTaskDto(id);
+
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(TaskStatus.BACKLOG);
+
+        when(repository.patch(patchedTask)).thenReturn(0);
+        when(repository.findById(id)).thenReturn(Optional.of(task));
+
+        assertThrows(OptimisticLockingFailureException.class, () -> {
+            service.patchTask(patchedTask);
+        });
+    }
+
+    @Test
+    void patchTask_throwsVersionException_whenSentVersionDoesNotMatch() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto patchedTask = new UpdateTaskDto(id);
+        patchedTask.setVersion(3L);
+
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(TaskStatus.BACKLOG);
+
+        when(repository.patch(patchedTask)).thenReturn(0);
+        when(repository.findById(id)).thenReturn(Optional.of(task));
+
+        assertThrows(TaskVersionException.class, () -> {
+            service.patchTask(patchedTask);
+        });
+    }
+
+    @Test
+    void patchTask_throwsException_whenTaskIsNotFound() {
+        UUID id = UUID.randomUUID();
+
+        UpdateTaskDto patchedTask = new UpdateTaskDto(id);
+
+        when(repository.patch(patchedTask)).thenReturn(0);
+        when(repository.findById(id)).thenReturn(Optional.empty());
+
+        assertThrows(TaskNotFoundException.class, () -> {
+            service.patchTask(patchedTask);
+        });
+    }
+
     @Test
     void deleteTask_removesTask_whenTaskExistsAndStatusIsNotArchived() {
         String strId = "7aecd703-0d6b-4c62-92d8-7a42221d02a1";
@@ -227,6 +550,8 @@ class TaskServiceUnitTests {
         service.deleteTask(strId);
 
         verify(repository).deleteById(id);
+        verify(taskCache).evict(id);
+        verify(titleCache).evict(task.getTitle());
     }
 
     @Test
@@ -262,4 +587,60 @@ class TaskServiceUnitTests {
 
         verify(repository, never()).deleteById(any());
     }
+
+    @Test
+    void createTasks_rejectsItem_whenTitleIsRepeatedWithinBatch() {
+        String title = "This title appears twice";
+        LocalDateTime dueDate = LocalDateTime.now().plusDays(1);
+
+        writeUnsharded();
+
+        List<TaskBatchResult> results = service.createTasks(List.of(
+            new CreateTaskDto(title, dueDate),
+            new CreateTaskDto(title, dueDate)));
+
+        assertEquals(201, results.get(0).status());
+        assertEquals(400, results.get(1).status());
+        assertEquals("Task title must be unique", results.get(1).error());
+
+        verify(repository).findByTitleIn(Set.of(title));
+    }
+
+    @Test
+    void deleteTasks_reportsOutcomePerItem() {
+        String strId = "0f0e6b0c-7f6a-4b43-9d0e-3f1b2b8f3a11";
+        String archivedStrId = "2bb1b0a4-6d2a-4a62-8a7c-51c8a5f1d2e3";
+        String invalidStrId = "0f0e6b0c_7f6a_4b43_9d0e_3f1b2b8f3a11";
+        UUID id = UUID.fromString(strId);
+        UUID archivedId = UUID.fromString(archivedStrId);
+
+        Task task = new Task();
+        task.setId(id);
+        task.setStatus(TaskStatus.IN_PROGRESS);
+
+        Task archivedTask = new Task();
+        archivedTask.setId(archivedId);
+        archivedTask.setStatus(TaskStatus.ARCHIVED);
+
+        when(validator.checkIdValidity(strId)).thenReturn(id);
+        when(validator.checkIdValidity(archivedStrId)).thenReturn(archivedId);
+        doThrow(new ValidationException("Task ID must be a UUID")).when(validator).checkIdValidity(invalidStrId);
+        when(repository.findAllById(Set.of(id, archivedId))).thenReturn(List.of(task, archivedTask));
+        writeUnsharded();
+
+        List<TaskBatchResult> results = service.deleteTasks(List.of(strId, archivedStrId, invalidStrId));
+
+        assertEquals(204, results.get(0).status());
+        assertEquals(409, results.get(1).status());
+        assertEquals(400, results.get(2).status());
+
+        verify(repository).deleteAllByIdInBatch(Set.of(id));
+    }
+
+    private void writeUnsharded() {
+        doAnswer(invocation -> {
+            invocation.<Consumer<List<Object>>>getArgument(2).accept(invocation.getArgument(0));
+            return null;
+        }).when(shards).writeByShard(any(), any(), any(), any());
+    }
 }
@@ -0,0 +1,51 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+
+class TaskShardRingUnitTests {
+    @Test
+    void shardOf_isStableForTheSameId() {
+        TaskShardRing ring = new TaskShardRing(4, 128);
+        UUID id = UUID.randomUUID();
+
+        assertEquals(ring.shardOf(id), new TaskShardRing(4, 128).shardOf(id));
+        assertEquals(ring.shardOf("Shared title"), new TaskShardRing(4, 128).shardOf("Shared title"));
+    }
+
+    @Test
+    void shardOf_spreadsIdsEvenlyAcrossShards() {
+        TaskShardRing ring = new TaskShardRing(4, 128);
+        int[] counts = new int[4];
+
+        Stream.generate(UUID::randomUUID).limit(40_000).forEach(id -> counts[ring.shardOf(id)]++);
+
+        for (int count : counts) {
+            assertTrue(count > 7_500 && count < 12_500, "Shard received " + count + " of 40000 ids");
+        }
+    }
+
+    @Test
+    void shardOf_onlyMovesIdsToTheNewShard_whenAShardIsAdded() {
+        TaskShardRing before = new TaskShardRing(4, 128);
+        TaskShardRing after = new TaskShardRing(5, 128);
+        List<UUID> ids = Stream.generate(UUID::randomUUID).limit(20_000).toList();
+
+        List<UUID> moved = ids.stream().filter(id -> before.shardOf(id) != after.shardOf(id)).toList();
+
+        moved.forEach(id -> assertEquals(4, after.shardOf(id)));
+        assertTrue(moved.size() < ids.size() * 0.3, moved.size() + " of 20000 ids moved");
+    }
+
+    @Test
+    void constructor_rejectsRingWithoutShards() {
+        assertThrows(IllegalArgumentException.class, () -> new TaskShardRing(0, 128));
+    }
+}
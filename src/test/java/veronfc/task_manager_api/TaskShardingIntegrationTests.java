@@ -0,0 +1,214 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import jakarta.validation.ValidationException;
+
+@SpringBootTest(properties = {
+    "tasks.sharding.enabled=true",
+    "tasks.sharding.initialize-schema=true",
+    "tasks.sharding.urls=" + TaskShardingIntegrationTests.SHARD_0 + "," + TaskShardingIntegrationTests.SHARD_1 + ","
+        + TaskShardingIntegrationTests.SHARD_2
+})
+class TaskShardingIntegrationTests {
+    static final String SHARD_0 = "jdbc:h2:mem:sharding-0;DB_CLOSE_DELAY=-1";
+    static final String SHARD_1 = "jdbc:h2:mem:sharding-1;DB_CLOSE_DELAY=-1";
+    static final String SHARD_2 = "jdbc:h2:mem:sharding-2;DB_CLOSE_DELAY=-1";
+    static final List<String> URLS = List.of(SHARD_0, SHARD_1, SHARD_2);
+
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private TaskShards shards;
+
+    @Autowired
+    private TaskShardRebalancer rebalancer;
+
+    @Test
+    void createTask_storesEachTaskOnTheShardOfItsId() {
+        List<Task> created = IntStream.range(0, 12)
+            .mapToObj(i -> service.createTask(new CreateTaskDto("Placed task " + i, LocalDateTime.now().plusDays(1))))
+            .toList();
+        Set<Integer> usedShards = new HashSet<>();
+
+        created.forEach(task -> {
+            int shard = shards.shardOf(task.getId());
+
+            assertEquals(List.of(task.getId()),
+                jdbc(shard).queryForList("select id from task where id = ?", UUID.class, task.getId()));
+            usedShards.add(shard);
+        });
+
+        assertTrue(usedShards.size() > 1);
+    }
+
+    @Test
+    void retrieveAllTasks_mergesShardsInCreationOrder() {
+        IntStream.range(0, 6)
+            .forEach(i -> service.createTask(new CreateTaskDto("Merged task " + i, LocalDateTime.now().plusDays(1))));
+
+        List<Task> tasks = service.retrieveAllTasks();
+        List<Task> sorted = new ArrayList<>(tasks);
+        sorted.sort(Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId, TaskShards.ID_ORDER));
+
+        assertEquals(sorted, tasks);
+        assertEquals(tasks.size(), service.retrieveAllTaskSummaries().size());
+    }
+
+    @Test
+    void streamAllTasks_mergesShardsInCreationOrder() {
+        IntStream.range(0, 9)
+            .forEach(i -> service.createTask(new CreateTaskDto("Streamed task " + i, LocalDateTime.now().plusDays(1))));
+
+        List<Task> streamed = new ArrayList<>();
+        List<TaskSummary> summaries = new ArrayList<>();
+        service.streamAllTasks(streamed::add);
+        service.streamAllTaskSummaries(summaries::add);
+
+        List<Task> sorted = new ArrayList<>(streamed);
+        sorted.sort(Comparator.comparing(Task::getCreatedAt).thenComparing(Task::getId, TaskShards.ID_ORDER));
+
+        assertTrue(streamed.stream().map(task -> shards.shardOf(task.getId())).distinct().count() > 1);
+        assertEquals(sorted, streamed);
+        assertEquals(service.retrieveAllTasks().stream().map(Task::getId).toList(),
+            summaries.stream().map(TaskSummary::id).toList());
+    }
+
+    @Test
+    void singleTaskOperations_followTheTaskToItsShard() {
+        Task created = service.createTask(new CreateTaskDto("Routed task", LocalDateTime.now().plusDays(1)));
+        String id = created.getId().toString();
+
+        UpdateTaskDto update = new UpdateTaskDto(created.getId());
+        update.setDescription("Updated on its shard");
+        service.updateTask(update);
+
+        UpdateTaskDto patch = new UpdateTaskDto(created.getId());
+        patch.setTitle("Routed task renamed");
+        service.patchTask(patch);
+
+        Task found = service.retrieveTask(id);
+        assertEquals("Updated on its shard", found.getDescription());
+        assertEquals("Routed task renamed", found.getTitle());
+
+        service.deleteTask(id);
+        assertThrows(TaskNotFoundException.class, () -> service.retrieveTask(id));
+    }
+
+    @Test
+    void taskTitles_stayUniqueAcrossShards_andAreFreedOnRenameAndDelete() {
+        CreateTaskDto first = new CreateTaskDto("Shared sharded title", LocalDateTime.now().plusDays(1));
+        Task created = service.createTask(first);
+
+        for (int i = 0; i < 5; i++) {
+            assertThrows(ValidationException.class, () -> service.createTask(first));
+        }
+
+        UpdateTaskDto rename = new UpdateTaskDto(created.getId());
+        rename.setTitle("Renamed sharded title");
+        service.updateTask(rename);
+
+        Task reused = service.createTask(first);
+        assertThrows(ValidationException.class,
+            () -> service.createTask(new CreateTaskDto("Renamed sharded title", LocalDateTime.now().plusDays(1))));
+
+        service.deleteTask(reused.getId().toString());
+        service.createTask(first);
+    }
+
+    @Test
+    void retrieveTaskPage_walksAllShardsWithOneCursor() {
+        IntStream.range(0, 7)
+            .forEach(i -> service.createTask(new CreateTaskDto("Paged task " + i, LocalDateTime.now().plusDays(1))));
+
+        List<UUID> expected = service.retrieveAllTasks().stream().map(Task::getId).toList();
+        List<UUID> paged = new ArrayList<>();
+        String cursor = null;
+
+        do {
+            TaskPage<Task> page = service.retrieveTaskPage(TaskQuery.unfiltered(), cursor, 3);
+            page.tasks().forEach(task -> paged.add(task.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        assertEquals(expected, paged);
+    }
+
+    @Test
+    void rebalance_movesTasksAndTitleClaimsBackToTheShardsTheyHashTo() {
+        Task created = service.createTask(new CreateTaskDto("Misplaced task", LocalDateTime.now().plusDays(1)));
+        int home = shards.shardOf(created.getId());
+        int titleHome = shards.shardOf(created.getTitle());
+
+        move(home, (home + 1) % URLS.size(), "task", "id", created.getId());
+        move(titleHome, (titleHome + 1) % URLS.size(), "task_title_claim", "title", created.getTitle());
+
+        assertTrue(rebalancer.rebalance() >= 2);
+        assertEquals(created.getId(), service.retrieveTask(created.getId().toString()).getId());
+        assertThrows(ValidationException.class,
+            () -> service.createTask(new CreateTaskDto("Misplaced task", LocalDateTime.now().plusDays(1))));
+        assertEquals(0, rebalancer.rebalance());
+    }
+
+    @Test
+    void batchRequests_groupItemsByShard() {
+        List<TaskBatchResult> created = service.createTasks(IntStream.range(0, 9)
+            .mapToObj(i -> new CreateTaskDto("Batched sharded task " + i, LocalDateTime.now().plusDays(1)))
+            .toList());
+
+        assertTrue(created.stream().allMatch(result -> result.status() == 201));
+        assertTrue(created.stream().map(result -> shards.shardOf(result.id())).distinct().count() > 1);
+
+        List<UpdateTaskDto> updates = created.stream().map(result -> {
+            UpdateTaskDto update = new UpdateTaskDto(result.id());
+            update.setDescription("Updated in a sharded batch");
+            return update;
+        }).toList();
+
+        assertTrue(service.updateTasks(updates).stream().allMatch(result -> result.status() == 200));
+        created.forEach(result -> assertEquals("Updated in a sharded batch",
+            service.retrieveTask(result.id().toString()).getDescription()));
+
+        List<TaskBatchResult> duplicates = service.createTasks(
+            List.of(new CreateTaskDto("Batched sharded task 0", LocalDateTime.now().plusDays(1))));
+        assertEquals(400, duplicates.get(0).status());
+
+        List<TaskBatchResult> deleted = service.deleteTasks(created.stream().map(result -> result.id().toString()).toList());
+
+        assertTrue(deleted.stream().allMatch(result -> result.status() == 204));
+        service.createTask(new CreateTaskDto("Batched sharded task 0", LocalDateTime.now().plusDays(1)));
+    }
+
+    private static void move(int from, int to, String table, String key, Object value) {
+        JdbcTemplate source = jdbc(from);
+        Map<String, Object> row = source.queryForMap("select * from " + table + " where " + key + " = ?", value);
+
+        jdbc(to).update("insert into " + table + " (" + String.join(", ", row.keySet()) + ") values ("
+            + String.join(", ", Collections.nCopies(row.size(), "?")) + ")", row.values().toArray());
+        source.update("delete from " + table + " where " + key + " = ?", value);
+    }
+
+    private static JdbcTemplate jdbc(int shard) {
+        return new JdbcTemplate(new DriverManagerDataSource(URLS.get(shard), "sa", ""));
+    }
+}
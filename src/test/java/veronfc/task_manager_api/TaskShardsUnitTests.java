@@ -0,0 +1,70 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+@ExtendWith(MockitoExtension.class)
+class TaskShardsUnitTests {
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void merge_interleavesSortedShardResults() {
+        List<Integer> merged = TaskShards.merge(List.of(List.of(1, 4, 7), List.of(), List.of(2, 3, 8), List.of(5)),
+            Comparator.naturalOrder());
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 7, 8), merged);
+    }
+
+    @Test
+    void forEachMerged_pagesThroughEveryShardInGlobalOrder() {
+        TaskShards shards = new TaskShards(transactionManager, true, List.of("a", "b", "c"), 128);
+        List<List<Integer>> rows = List.of(List.of(1, 4, 7), List.of(2, 3, 8, 9), List.of(5));
+        List<Integer> merged = new ArrayList<>();
+
+        shards.forEachMerged((Integer last, Integer limit) -> rows
+            .get((Integer) TransactionSynchronizationManager.getResource(TaskShards.ROUTE))
+            .stream()
+            .filter(row -> last == null || row > last)
+            .limit(limit)
+            .toList(), 2, Comparator.naturalOrder(), merged::add);
+
+        assertEquals(List.of(1, 2, 3, 4, 5, 7, 8, 9), merged);
+    }
+
+    @Test
+    void idOrder_comparesUuidsAsUnsignedValues() {
+        UUID low = new UUID(0x7fffffffffffffffL, 0L);
+        UUID high = new UUID(0x8000000000000000L, 0L);
+
+        assertEquals(-1, Integer.signum(TaskShards.ID_ORDER.compare(low, high)));
+        assertEquals(1, Integer.signum(TaskShards.ID_ORDER.compare(new UUID(0L, -1L), new UUID(0L, 1L))));
+    }
+
+    @Test
+    void disabledShards_runQueriesInTheCallersTransaction() {
+        TaskShards shards = new TaskShards(transactionManager, false, List.of(), 128);
+
+        shards.route(UUID.randomUUID());
+
+        assertFalse(shards.isEnabled());
+        assertEquals(1, shards.count());
+        assertEquals(List.of("task"), shards.gather(() -> List.of("task"), null));
+        assertNull(TransactionSynchronizationManager.getResource(TaskShards.ROUTE));
+        verifyNoInteractions(transactionManager);
+    }
+}
@@ -0,0 +1,49 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+@SpringBootTest
+class TaskStatsIntegrationTests {
+    @Autowired
+    private TaskService service;
+
+    @Autowired
+    private TaskStats stats;
+
+    @Test
+    void incrementalCounters_matchDatabaseAfterMutations() {
+        stats.reconcile();
+        TaskStatistics before = stats.snapshot(LocalDate.now());
+
+        Task open = service.createTask(new CreateTaskDto("Counted open task", LocalDateTime.now().plusDays(3)));
+        Task completed = service.createTask(new CreateTaskDto("Counted completed task", LocalDateTime.now().plusDays(3)));
+        UpdateTaskDto complete = new UpdateTaskDto(completed.getId());
+        complete.setStatus(TaskStatus.COMPLETE);
+        service.updateTask(complete);
+        UpdateTaskDto start = new UpdateTaskDto(open.getId());
+        start.setStatus(TaskStatus.IN_PROGRESS);
+        service.patchTask(start);
+
+        TaskStatistics incremental = stats.snapshot(LocalDate.now());
+        stats.reconcile();
+        TaskStatistics reconciled = stats.snapshot(LocalDate.now());
+
+        assertEquals(before.total() + 2, incremental.total());
+        assertEquals(before.dueThisWeek() + 1, incremental.dueThisWeek());
+        assertEquals(reconciled.byStatus(), incremental.byStatus());
+        assertEquals(reconciled.overdue(), incremental.overdue());
+        assertEquals(reconciled.dueThisWeek(), incremental.dueThisWeek());
+
+        service.deleteTask(open.getId().toString());
+        service.deleteTask(completed.getId().toString());
+
+        assertEquals(before.byStatus(), stats.snapshot(LocalDate.now()).byStatus());
+    }
+}
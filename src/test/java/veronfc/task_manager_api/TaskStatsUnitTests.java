@@ -0,0 +1,140 @@
+package veronfc.task_manager_api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class TaskStatsUnitTests {
+    private static final LocalDate TODAY = LocalDate.of(2030, 6, 10);
+
+    @Mock
+    private TaskRepository repository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TaskStats stats;
+
+    @BeforeEach
+    void createStats() {
+        stats = new TaskStats(repository, new TaskShards(transactionManager, false, List.of(), 128));
+    }
+
+    @Test
+    void snapshot_countsStatusesAndBucketsOpenDueDates() {
+        stats.created(task(TaskStatus.BACKLOG, TODAY.minusDays(2).atTime(9, 0)));
+        stats.created(task(TaskStatus.IN_PROGRESS, TODAY.atTime(18, 0)));
+        stats.created(task(TaskStatus.BACKLOG, TODAY.plusDays(6).atTime(23, 0)));
+        stats.created(task(TaskStatus.BACKLOG, TODAY.plusDays(7).atTime(0, 0)));
+        stats.created(task(TaskStatus.COMPLETE, TODAY.minusDays(1).atTime(9, 0)));
+
+        TaskStatistics snapshot = stats.snapshot(TODAY);
+
+        assertEquals(5, snapshot.total());
+        assertEquals(Map.of(TaskStatus.BACKLOG, 3L, TaskStatus.IN_PROGRESS, 1L, TaskStatus.COMPLETE, 1L,
+            TaskStatus.ARCHIVED, 0L), snapshot.byStatus());
+        assertEquals(1, snapshot.overdue());
+        assertEquals(1, snapshot.dueToday());
+        assertEquals(2, snapshot.dueThisWeek());
+    }
+
+    @Test
+    void changed_movesTaskBetweenStatusesAndDueDays() {
+        LocalDateTime dueDate = TODAY.plusDays(1).atTime(12, 0);
+        stats.created(task(TaskStatus.BACKLOG, dueDate));
+
+        stats.changed(TaskStatus.BACKLOG, dueDate, TaskStatus.BACKLOG, TODAY.minusDays(1).atTime(12, 0));
+        assertEquals(1, stats.snapshot(TODAY).overdue());
+
+        stats.changed(TaskStatus.BACKLOG, TODAY.minusDays(1).atTime(12, 0), TaskStatus.COMPLETE, dueDate);
+        TaskStatistics snapshot = stats.snapshot(TODAY);
+
+        assertEquals(0, snapshot.overdue());
+        assertEquals(0, snapshot.dueThisWeek());
+        assertEquals(Map.of(TaskStatus.BACKLOG, 0L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.COMPLETE, 1L,
+            TaskStatus.ARCHIVED, 0L), snapshot.byStatus());
+    }
+
+    @Test
+    void removedAndArchived_decrementCounters() {
+        LocalDateTime dueDate = TODAY.plusDays(2).atTime(12, 0);
+        stats.created(task(TaskStatus.IN_PROGRESS, dueDate));
+        stats.created(task(TaskStatus.ARCHIVED, dueDate));
+        stats.created(task(TaskStatus.ARCHIVED, dueDate));
+
+        stats.removed(TaskStatus.IN_PROGRESS, dueDate);
+        stats.archived(List.of(new TaskStatusCount(TaskStatus.ARCHIVED, 2L)));
+        TaskStatistics snapshot = stats.snapshot(TODAY);
+
+        assertEquals(0, snapshot.total());
+        assertEquals(0, snapshot.dueThisWeek());
+    }
+
+    @Test
+    void reconcile_replacesCountersWithDatabaseTotals() {
+        stats.created(task(TaskStatus.BACKLOG, TODAY.plusDays(1).atTime(12, 0)));
+        when(repository.countGroupedByStatus()).thenReturn(List.of(
+            new TaskStatusCount(TaskStatus.BACKLOG, 4L),
+            new TaskStatusCount(TaskStatus.COMPLETE, 2L)));
+        when(repository.countDueDaysByStatusIn(any())).thenReturn(List.of(
+            new TaskDueDayCount(TODAY.minusDays(3), 1L),
+            new TaskDueDayCount(TODAY.plusDays(3), 3L)));
+
+        stats.reconcile();
+        TaskStatistics snapshot = stats.snapshot(TODAY);
+
+        assertEquals(6, snapshot.total());
+        assertEquals(Map.of(TaskStatus.BACKLOG, 4L, TaskStatus.IN_PROGRESS, 0L, TaskStatus.COMPLETE, 2L,
+            TaskStatus.ARCHIVED, 0L), snapshot.byStatus());
+        assertEquals(1, snapshot.overdue());
+        assertEquals(3, snapshot.dueThisWeek());
+        assertNotNull(snapshot.reconciledAt());
+    }
+
+    @Test
+    void reconcile_keepsChangesCommittedWhileLoading() {
+        when(repository.countGroupedByStatus()).thenAnswer(invocation -> {
+            stats.created(task(TaskStatus.BACKLOG, TODAY.plusDays(1).atTime(12, 0)));
+            return List.of(new TaskStatusCount(TaskStatus.BACKLOG, 4L));
+        });
+        when(repository.countDueDaysByStatusIn(any())).thenReturn(List.of());
+
+        stats.reconcile();
+
+        assertEquals(5, stats.snapshot(TODAY).total());
+    }
+
+    @Test
+    void snapshot_reconciles_afterPatch() {
+        when(repository.countGroupedByStatus()).thenReturn(List.of(new TaskStatusCount(TaskStatus.COMPLETE, 1L)));
+        when(repository.countDueDaysByStatusIn(any())).thenReturn(List.of());
+
+        stats.patched();
+        TaskStatistics snapshot = stats.snapshot(TODAY);
+
+        assertEquals(1, snapshot.byStatus().get(TaskStatus.COMPLETE));
+        assertNotNull(snapshot.reconciledAt());
+    }
+
+    private static Task task(TaskStatus status, LocalDateTime dueDate) {
+        Task task = new Task();
+        task.setStatus(status);
+        task.setDueDate(dueDate);
+
+        return task;
+    }
+}
@@ -3,6 +3,7 @@ package veronfc.task_manager_api;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import jakarta.validation.ValidationException;
@@ -24,6 +26,9 @@ class TaskValidatorUnitTest {
     @Mock
     TaskRepository repository;
 
+    @Spy
+    TaskTitleCache titleCache = new TaskTitleCache(100);
+
     @InjectMocks
     TaskValidator validator;
 
@@ -110,6 +115,76 @@ class TaskValidatorUnitTest {
         verify(repository).findByTitle(title);
     }
 
+    @Test
+    void checkCursorValidity_returnsCursor_whenCursorIsValid() {
+        TaskCursor cursor = new TaskCursor(LocalDateTime.now(), UUID.randomUUID());
+
+        TaskCursor result = validator.checkCursorValidity(cursor.encode());
+        assertEquals(cursor, result);
+    }
+
+    @Test
+    void checkCursorValidity_throwsException_whenCursorIsMalformed() {
+        String cursor = "bm90IGEgY3Vyc29y";
+
+        assertThrows(ValidationException.class, () -> {
+            validator.checkCursorValidity(cursor);
+        });
+    }
+
+    @Test
+    void checkPageSizeValidity_throwsException_whenSizeIsOutOfRange() {
+        assertThrows(ValidationException.class, () -> {
+            validator.checkPageSizeValidity(0);
+        });
+
+        assertThrows(ValidationException.class, () -> {
+            validator.checkPageSizeValidity(TaskValidator.MAX_PAGE_SIZE + 1);
+        });
+    }
+
+    @Test
+    void checkTitleValidity_skipsRepository_whenTitleIsCachedAsAbsent() {
+        String title = "This title is cached as unique";
+
+        titleCache.put(title, Optional.empty());
+
+        assertDoesNotThrow(() -> {
+            validator.checkTitleValidity(title, null);
+        });
+
+        verify(repository, never()).findByTitle(title);
+    }
+
+    @Test
+    void checkTitleValidity_rejectsWithoutRepository_whenCachedTitleBelongsToAnotherTask() {
+        String title = "This title is cached as taken";
+
+        titleCache.put(title, Optional.of(UUID.randomUUID()));
+
+        assertThrows(ValidationException.class, () -> {
+            validator.checkTitleValidity(title, null);
+        });
+
+        verify(repository, never()).findByTitle(title);
+    }
+
+    @Test
+    void checkTitleValidity_queriesRepository_afterCachedOwnerIsEvicted() {
+        String title = "This title was released";
+
+        titleCache.put(title, Optional.of(UUID.randomUUID()));
+        titleCache.evict(title);
+
+        when(repository.findByTitle(title)).thenReturn(Optional.empty());
+
+        assertDoesNotThrow(() -> {
+            validator.checkTitleValidity(title, null);
+        });
+
+        verify(repository).findByTitle(title);
+    }
+
     @Test
     void checkDueDateValidity_doesNothing_whenDueDateIsAtleast12HoursInTheFuture() {
         LocalDateTime dueDate = LocalDateTime.now().plus(13, ChronoUnit.HOURS);
@@ -127,4 +202,30 @@ class TaskValidatorUnitTest {
             validator.checkDueDateValidity(dueDate);
         });
     }
-}
\ No newline at end of file
+
+    @Test
+    void checkSearchValidity_throwsException_whenQueryIsBlank() {
+        assertThrows(ValidationException.class, () -> {
+            validator.checkSearchValidity("  ", 0, 20);
+        });
+    }
+
+    @Test
+    void checkSearchValidity_throwsException_whenPageIsBeyondSearchWindow() {
+        assertThrows(ValidationException.class, () -> {
+            validator.checkSearchValidity("invoice", TaskValidator.MAX_SEARCH_WINDOW / 20, 20);
+        });
+    }
+
+    @Test
+    void checkSearchValidity_throwsException_whenPageWouldOverflow() {
+        assertThrows(ValidationException.class, () -> {
+            validator.checkSearchValidity("invoice", Integer.MAX_VALUE, 20);
+        });
+    }
+
+    @Test
+    void checkSearchValidity_doesNotThrow_whenQueryAndWindowAreValid() {
+        assertDoesNotThrow(() -> validator.checkSearchValidity("invoice", 2, 20));
+    }
+}